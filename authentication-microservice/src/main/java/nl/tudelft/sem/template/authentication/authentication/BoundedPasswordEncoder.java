@@ -0,0 +1,130 @@
+package nl.tudelft.sem.template.authentication.authentication;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder that runs the (deliberately slow) hashing and verification of its delegate
+ * on a dedicated, bounded executor.
+ * <p>
+ * At most ```threads``` hashes run at the same time and at most ```queueCapacity``` wait for a
+ * thread. Any request beyond that, or one that waited longer than ```timeoutMs```, fails fast
+ * with a {@link PasswordHashingRejectedException} instead of piling up on the request threads.
+ * The queue depth is exported as ```executor.queued{name=password-hashing}```, the hashing time
+ * as ```password.hashing{operation=encode|matches}``` and the rejections as
+ * ```password.hashing.rejected```.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    public static final String EXECUTOR_NAME = "password-hashing";
+
+    private final transient PasswordEncoder delegate;
+
+    private final transient ThreadPoolExecutor executor;
+
+    private final transient long timeoutMs;
+
+    private final transient Timer encodeTimer;
+
+    private final transient Timer matchesTimer;
+
+    private final transient Counter rejected;
+
+    /**
+     * Instantiates a new bounded password encoder.
+     *
+     * @param delegate      the encoder doing the actual hashing
+     * @param threads       the number of hashes that may run concurrently
+     * @param queueCapacity the number of hashes that may wait for a thread
+     * @param timeoutMs     the time a caller waits for its hash before giving up
+     * @param registry      the registry the executor and hashing metrics are published to
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long timeoutMs, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+        this.encodeTimer = registry.timer("password.hashing", "operation", "encode");
+        this.matchesTimer = registry.timer("password.hashing", "operation", "matches");
+        this.rejected = registry.counter("password.hashing.rejected");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run a hashing task on the executor and wait for its result.
+     *
+     * @param timer the timer recording how long the task itself took
+     * @param task  the task to run
+     * @param <T>   the result type of the task
+     * @return the result of the task
+     * @throws PasswordHashingRejectedException if the executor is saturated or the task took too long
+     */
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Password hashing capacity exceeded", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
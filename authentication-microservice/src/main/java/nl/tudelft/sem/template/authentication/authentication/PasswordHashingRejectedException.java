@@ -0,0 +1,12 @@
+package nl.tudelft.sem.template.authentication.authentication;
+
+/**
+ * Thrown when a password cannot be hashed or verified because the hashing executor is saturated.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    static final long serialVersionUID = -2918372915810437241L;
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
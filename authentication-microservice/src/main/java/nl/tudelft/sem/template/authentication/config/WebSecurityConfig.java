@@ -1,11 +1,14 @@
 package nl.tudelft.sem.template.authentication.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.Setter;
+import nl.tudelft.sem.template.authentication.authentication.BoundedPasswordEncoder;
 import nl.tudelft.sem.template.authentication.domain.user.PasswordHashingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,14 +27,29 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
     @Setter(onMethod = @__({@Autowired})) // add autowired annotation on setter
     private transient UserDetailsService userDetailsService;
 
+    @Setter(onMethod = @__({@Autowired}))
+    private transient Environment environment;
+
+    @Setter(onMethod = @__({@Autowired}))
+    private transient MeterRegistry meterRegistry;
+
     /**
      * Password encoder password encoder.
+     * <p>
+     * BCrypt runs on a bounded executor, so a burst of logins or registrations cannot occupy
+     * every request thread. The executor is tuned through the ```hashing.*``` properties.
+     * </p>
      *
      * @return the password encoder
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = environment.getProperty("hashing.threads", Integer.class,
+                Runtime.getRuntime().availableProcessors());
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads,
+                environment.getProperty("hashing.queueCapacity", Integer.class, 4 * threads),
+                environment.getProperty("hashing.timeoutMs", Long.class, 2_000L),
+                meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,115 @@
+package nl.tudelft.sem.template.authentication.authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class BoundedPasswordEncoderTests {
+    private transient MeterRegistry registry;
+    private transient ExecutorService callers;
+    private transient BoundedPasswordEncoder encoder;
+
+    /**
+     * Set up the meter registry and the threads simulating concurrent requests.
+     */
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        callers = Executors.newFixedThreadPool(16);
+    }
+
+    /**
+     * Stop the callers and the hashing executor.
+     */
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    public void concurrentLoginsAreAllVerified() throws Exception {
+        // Arrange
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        String hash = bcrypt.encode("password123");
+        encoder = new BoundedPasswordEncoder(bcrypt, 2, 64, 10_000L, registry);
+
+        // Act
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            results.add(callers.submit(() -> encoder.matches("password123", hash)));
+        }
+
+        // Assert
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(registry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(64);
+        assertThat(registry.get("password.hashing.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    public void saturatedExecutorRejectsImmediately() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, 10_000L, registry);
+
+        // Act
+        Future<String> running = callers.submit(() -> encoder.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> queued = callers.submit(() -> encoder.encode("b"));
+        while (registry.get("executor.queued").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME)
+                .gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // Assert
+        long before = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - before)).isLessThan(1_000L);
+        assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    public void slowHashTimesOut() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, 50L, registry);
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.matches("a", "hash")).isInstanceOf(PasswordHashingRejectedException.class);
+        release.countDown();
+    }
+}
@@ -7,9 +7,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import nl.tudelft.sem.template.authentication.authentication.JwtTokenGenerator;
+import nl.tudelft.sem.template.authentication.authentication.PasswordHashingRejectedException;
 import nl.tudelft.sem.template.authentication.domain.user.AppUser;
 import nl.tudelft.sem.template.authentication.domain.user.Email;
 import nl.tudelft.sem.template.authentication.domain.user.HashedPassword;
@@ -222,4 +224,50 @@ public class UsersTests {
 
         verify(mockJwtTokenGenerator, times(0)).generateToken(any());
     }
+
+    @Test
+    public void login_whenHashingSaturated_returns503() throws Exception {
+        // Arrange
+        final String testUser = "SomeUser";
+        final String testPassword = "password123";
+
+        when(mockAuthenticationManager.authenticate(any()))
+                .thenThrow(new PasswordHashingRejectedException("saturated", null));
+
+        AuthenticationRequestModel model = new AuthenticationRequestModel();
+        model.setEmail(testUser);
+        model.setPassword(testPassword);
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(post("/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(JsonUtil.serialize(model)));
+
+        // Assert
+        resultActions.andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+
+        verify(mockJwtTokenGenerator, times(0)).generateToken(any());
+    }
+
+    @Test
+    public void register_whenHashingSaturated_returns503() throws Exception {
+        // Arrange
+        final Password testPassword = new Password("password123");
+        when(mockPasswordEncoder.hash(testPassword))
+                .thenThrow(new PasswordHashingRejectedException("saturated", null));
+
+        RegistrationRequestModel model = new RegistrationRequestModel();
+        model.setEmail("SomeUser");
+        model.setPassword(testPassword.toString());
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(post("/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(JsonUtil.serialize(model)));
+
+        // Assert
+        resultActions.andExpect(status().isServiceUnavailable());
+        assertThat(userRepository.findByEmail(new Email("SomeUser"))).isEmpty();
+    }
 }
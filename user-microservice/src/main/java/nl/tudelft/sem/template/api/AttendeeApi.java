@@ -182,7 +182,9 @@ public interface AttendeeApi {
      * @param eventId Event identifier filter. (optional)
      * @param roles Role filters (optional)
      * @param trackId Track identifier filter (optional)
-     * @return successful operation (status code 200)
+     * @param limit Maximum number of attendees in the page. (optional, default to 100)
+     * @param after Cursor; only attendees with a greater identifier are returned. (optional)
+     * @return successful operation; as application/x-ndjson, the page is written as one attendee per line. (status code 200)
      *         or Invalid filters were provided. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or No such Attendee instance can be found. (status code 404)
@@ -192,8 +194,9 @@ public interface AttendeeApi {
         summary = "Returns all attendees, optionally filtered by an event, roles, or track.",
         tags = { "Event Management", "Track Management" },
         responses = {
-            @ApiResponse(responseCode = "200", description = "successful operation", content = {
-                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Attendee.class)))
+            @ApiResponse(responseCode = "200", description = "successful operation; as application/x-ndjson, the page is written as one attendee per line.", content = {
+                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Attendee.class))),
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = Attendee.class))
             }),
             @ApiResponse(responseCode = "400", description = "Invalid filters were provided."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
@@ -206,12 +209,14 @@ public interface AttendeeApi {
     @RequestMapping(
         method = RequestMethod.GET,
         value = "/attendee",
-        produces = { "application/json" }
+        produces = { "application/json", "application/x-ndjson" }
     )
     default ResponseEntity<List<Attendee>> getFilteredAttendees(
         @Parameter(name = "eventId", description = "Event identifier filter.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "eventId", required = false) Long eventId,
         @Parameter(name = "roles", description = "Role filters", in = ParameterIn.QUERY) @Valid @RequestParam(value = "roles", required = false) List<Role> roles,
-        @Parameter(name = "trackId", description = "Track identifier filter", in = ParameterIn.QUERY) @Valid @RequestParam(value = "trackId", required = false) Long trackId
+        @Parameter(name = "trackId", description = "Track identifier filter", in = ParameterIn.QUERY) @Valid @RequestParam(value = "trackId", required = false) Long trackId,
+        @Min(1) @Max(1000) @Parameter(name = "limit", description = "Maximum number of attendees in the page.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false, defaultValue = "100") Integer limit,
+        @Parameter(name = "after", description = "Cursor; only attendees with a greater identifier are returned.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) Long after
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
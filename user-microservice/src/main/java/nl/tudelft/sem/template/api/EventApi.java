@@ -7,7 +7,9 @@ package nl.tudelft.sem.template.api;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import nl.tudelft.sem.template.model.Event;
+import nl.tudelft.sem.template.model.EventDeletion;
 import java.time.LocalDate;
+import java.util.UUID;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -96,7 +98,9 @@ public interface EventApi {
      * This operation can only be performed by the general chair of the event.
      *
      * @param eventID ID of event to be deleted. (required)
+     * @param async Delete the event in the background, and answer with the deletion job. (optional, default to false)
      * @return successful operation. (status code 204)
+     *         or Deletion started; the Location header points to the deletion job. (status code 202)
      *         or Invalid eventID. (status code 400)
      *         or Unauthorized access. (status code 401)
      */
@@ -107,6 +111,9 @@ public interface EventApi {
         tags = { "Event Management" },
         responses = {
             @ApiResponse(responseCode = "204", description = "successful operation."),
+            @ApiResponse(responseCode = "202", description = "Deletion started; the Location header points to the deletion job.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EventDeletion.class))
+            }),
             @ApiResponse(responseCode = "400", description = "Invalid eventID."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access.")
         },
@@ -116,11 +123,69 @@ public interface EventApi {
     )
     @RequestMapping(
         method = RequestMethod.DELETE,
-        value = "/event/{eventID}"
+        value = "/event/{eventID}",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<EventDeletion> deleteEvent(
+        @Parameter(name = "eventID", description = "ID of event to be deleted.", required = true, in = ParameterIn.PATH) @PathVariable("eventID") Long eventID,
+        @Parameter(name = "async", description = "Delete the event in the background, and answer with the deletion job.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "async", required = false, defaultValue = "false") Boolean async
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"event_id\" : 10, \"id\" : \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"status\" : \"pending\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
+    /**
+     * GET /event/deletion/{jobID} : Get the progress of an event deletion.
+     * This operation can only be performed by registered users.
+     *
+     * @param jobID ID of the deletion job. (required)
+     * @return successful operation (status code 200)
+     *         or Unauthorized access. (status code 401)
+     *         or Deletion job not found. (status code 404)
+     */
+    @Operation(
+        operationId = "getEventDeletion",
+        summary = "Get the progress of an event deletion.",
+        description = "This operation can only be performed by registered users.",
+        tags = { "Event Management" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "successful operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = EventDeletion.class))
+            }),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access."),
+            @ApiResponse(responseCode = "404", description = "Deletion job not found.")
+        },
+        security = {
+            @SecurityRequirement(name = "api_key")
+        }
     )
-    default ResponseEntity<Void> deleteEvent(
-        @Parameter(name = "eventID", description = "ID of event to be deleted.", required = true, in = ParameterIn.PATH) @PathVariable("eventID") Long eventID
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/event/deletion/{jobID}",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<EventDeletion> getEventDeletion(
+        @Parameter(name = "jobID", description = "ID of the deletion job.", required = true, in = ParameterIn.PATH) @PathVariable("jobID") UUID jobID
     ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"event_id\" : 10, \"id\" : \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"status\" : \"pending\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
     }
@@ -136,6 +201,11 @@ public interface EventApi {
      * @param endAfter Date after which event ends (optional)
      * @param cancelled Whether the event is cancelled (optional, default to false)
      * @param name Event&#39;s name. (optional)
+     * @param search Words the name or description of the events contain, or start with. (optional)
+     * @param sort Property the events are sorted on; by default the identifier, or the relevance when searching. A sorted search covers the 1000 most relevant matches. (optional)
+     * @param direction Direction the events are sorted in. (optional, default to asc)
+     * @param page Index of the page, starting at 0. (optional, default to 0)
+     * @param limit Maximum number of events in the page. (optional, default to 100)
      * @return successful operation (status code 200)
      *         or Invalid query values. (status code 400)
      *         or Unauthorized access. (status code 401)
@@ -167,7 +237,12 @@ public interface EventApi {
         @Parameter(name = "end_before", description = "Date before which event ends", in = ParameterIn.QUERY) @Valid @RequestParam(value = "end_before", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endBefore,
         @Parameter(name = "end_after", description = "Date after which event ends", in = ParameterIn.QUERY) @Valid @RequestParam(value = "end_after", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endAfter,
         @Parameter(name = "cancelled", description = "Whether the event is cancelled", in = ParameterIn.QUERY) @Valid @RequestParam(value = "cancelled", required = false, defaultValue = "false") Boolean cancelled,
-        @Parameter(name = "name", description = "Event's name.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "name", required = false) String name
+        @Parameter(name = "name", description = "Event's name.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "name", required = false) String name,
+        @Parameter(name = "search", description = "Words the name or description of the events contain, or start with.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "search", required = false) String search,
+        @Parameter(name = "sort", description = "Property the events are sorted on; by default the identifier, or the relevance when searching. A sorted search covers the 1000 most relevant matches.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "sort", required = false) String sort,
+        @Parameter(name = "direction", description = "Direction the events are sorted in.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "direction", required = false, defaultValue = "asc") String direction,
+        @Min(0) @Parameter(name = "page", description = "Index of the page, starting at 0.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+        @Min(1) @Max(1000) @Parameter(name = "limit", description = "Maximum number of events in the page.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false, defaultValue = "100") Integer limit
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -187,7 +262,9 @@ public interface EventApi {
      * GET /event/{eventID} : Get an event by eventID.
      *
      * @param eventID ID of event to return. (required)
+     * @param ifNoneMatch The ETag of the representation the client already has. (optional)
      * @return successful operation (status code 200)
+     *         or Not modified. (status code 304)
      *         or Invalid ID supplied. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or Event not found. (status code 404)
@@ -200,6 +277,7 @@ public interface EventApi {
             @ApiResponse(responseCode = "200", description = "successful operation", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Event.class))
             }),
+            @ApiResponse(responseCode = "304", description = "Not modified."),
             @ApiResponse(responseCode = "400", description = "Invalid ID supplied."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
             @ApiResponse(responseCode = "404", description = "Event not found.")
@@ -214,7 +292,8 @@ public interface EventApi {
         produces = { "application/json" }
     )
     default ResponseEntity<Event> getEventById(
-        @Parameter(name = "eventID", description = "ID of event to return.", required = true, in = ParameterIn.PATH) @PathVariable("eventID") Long eventID
+        @Parameter(name = "eventID", description = "ID of event to return.", required = true, in = ParameterIn.PATH) @PathVariable("eventID") Long eventID,
+        @Parameter(name = "If-None-Match", description = "The ETag of the representation the client already has.", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -235,10 +314,12 @@ public interface EventApi {
      * This operation can only be performed by the general chair of the event.
      *
      * @param event Event data to be changed. (required)
+     * @param ifMatch The ETag of the representation the update is based on. (optional)
      * @return Successful operation. (status code 200)
      *         or Invalid event object supplied. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or Event not found. (status code 404)
+     *         or The entity was modified since the given ETag. (status code 412)
      */
     @Operation(
         operationId = "updateEvent",
@@ -251,7 +332,8 @@ public interface EventApi {
             }),
             @ApiResponse(responseCode = "400", description = "Invalid event object supplied."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
-            @ApiResponse(responseCode = "404", description = "Event not found.")
+            @ApiResponse(responseCode = "404", description = "Event not found."),
+            @ApiResponse(responseCode = "412", description = "The entity was modified since the given ETag.")
         },
         security = {
             @SecurityRequirement(name = "api_key")
@@ -264,7 +346,8 @@ public interface EventApi {
         consumes = { "application/json" }
     )
     default ResponseEntity<Event> updateEvent(
-        @Parameter(name = "Event", description = "Event data to be changed.", required = true) @Valid @RequestBody Event event
+        @Parameter(name = "Event", description = "Event data to be changed.", required = true) @Valid @RequestBody Event event,
+        @Parameter(name = "If-Match", description = "The ETag of the representation the update is based on.", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -6,6 +6,8 @@
 package nl.tudelft.sem.template.api;
 
 import nl.tudelft.sem.template.model.Invitation;
+import nl.tudelft.sem.template.model.InvitationBatch;
+import nl.tudelft.sem.template.model.InvitationResult;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,10 +48,12 @@ public interface InvitationsApi {
      * On success, this creates a new attendee for the event or track.
      *
      * @param invitationID ID of the invitation to be accepted. (required)
+     * @param ifMatch The ETag of the representation the update is based on. (optional)
      * @return successful operation. (status code 200)
      *         or Invalid invitationID was provided. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or No invitation with the provided ID exists. (status code 404)
+     *         or The entity was modified since the given ETag. (status code 412)
      */
     @Operation(
         operationId = "acceptInvitation",
@@ -62,7 +66,8 @@ public interface InvitationsApi {
             }),
             @ApiResponse(responseCode = "400", description = "Invalid invitationID was provided."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
-            @ApiResponse(responseCode = "404", description = "No invitation with the provided ID exists.")
+            @ApiResponse(responseCode = "404", description = "No invitation with the provided ID exists."),
+            @ApiResponse(responseCode = "412", description = "The entity was modified since the given ETag.")
         }
     )
     @RequestMapping(
@@ -71,7 +76,8 @@ public interface InvitationsApi {
         produces = { "application/json" }
     )
     default ResponseEntity<Invitation> acceptInvitation(
-        @Parameter(name = "invitationID", description = "ID of the invitation to be accepted.", required = true, in = ParameterIn.PATH) @PathVariable("invitationID") Integer invitationID
+        @Parameter(name = "invitationID", description = "ID of the invitation to be accepted.", required = true, in = ParameterIn.PATH) @PathVariable("invitationID") Integer invitationID,
+        @Parameter(name = "If-Match", description = "The ETag of the representation the update is based on.", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -134,6 +140,51 @@ public interface InvitationsApi {
     }
 
 
+    /**
+     * POST /invitations/batch : Invite many users to an event or track at once.
+     * The permission of the inviter is checked once for the whole batch. Every user receives its own result; users that do not exist or already have an attendance are skipped.
+     *
+     * @param invitationBatch The users to invite and the attendance they are invited to. (optional)
+     * @return Successful operation. (status code 200)
+     *         or Invalid InvitationBatch object was provided. (status code 400)
+     *         or Unauthorized access. (status code 401)
+     */
+    @Operation(
+        operationId = "createInvitations",
+        summary = "Invite many users to an event or track at once.",
+        description = "The permission of the inviter is checked once for the whole batch. Every user receives its own result; users that do not exist or already have an attendance are skipped.",
+        tags = { "Event Management", "Track Management" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Successful operation.", content = {
+                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = InvitationResult.class)))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid InvitationBatch object was provided."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access.")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/invitations/batch",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    default ResponseEntity<List<InvitationResult>> createInvitations(
+        @Parameter(name = "InvitationBatch", description = "The users to invite and the attendance they are invited to.") @Valid @RequestBody(required = false) InvitationBatch invitationBatch
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "[ { \"user_id\" : 10, \"status\" : \"invited\", \"invitation\" : { \"event_id\" : 10, \"user_id\" : 10, \"track_id\" : 10, \"id\" : 10 } } ]";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * DELETE /invitations/{invitationID} : Reject or revoke an invitation.
      * This operation can only be performed by the invited user, or a user with a role in the event or track that is at least as high as the role to which the user has been invited.
@@ -172,7 +223,9 @@ public interface InvitationsApi {
      * GET /invitations/{invitationID} : Get an invitation by ID.
      *
      * @param invitationID ID of the invitation to be retrieved. (required)
+     * @param ifNoneMatch The ETag of the representation the client already has. (optional)
      * @return successful operation. (status code 200)
+     *         or Not modified. (status code 304)
      *         or Invalid invitationID was provided. (status code 400)
      *         or No invitation with the provided ID exists. (status code 404)
      */
@@ -184,6 +237,7 @@ public interface InvitationsApi {
             @ApiResponse(responseCode = "200", description = "successful operation.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Invitation.class))
             }),
+            @ApiResponse(responseCode = "304", description = "Not modified."),
             @ApiResponse(responseCode = "400", description = "Invalid invitationID was provided."),
             @ApiResponse(responseCode = "404", description = "No invitation with the provided ID exists.")
         }
@@ -194,7 +248,8 @@ public interface InvitationsApi {
         produces = { "application/json" }
     )
     default ResponseEntity<Invitation> getInvitation(
-        @Parameter(name = "invitationID", description = "ID of the invitation to be retrieved.", required = true, in = ParameterIn.PATH) @PathVariable("invitationID") Integer invitationID
+        @Parameter(name = "invitationID", description = "ID of the invitation to be retrieved.", required = true, in = ParameterIn.PATH) @PathVariable("invitationID") Integer invitationID,
+        @Parameter(name = "If-None-Match", description = "The ETag of the representation the client already has.", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -179,7 +179,9 @@ public interface TrackApi {
      * This operation can only be performed by the general chair of the related event.
      *
      * @param trackID ID of the track to be returned. (required)
+     * @param ifNoneMatch The ETag of the representation the client already has. (optional)
      * @return successful operation. (status code 200)
+     *         or Not modified. (status code 304)
      *         or Invalid TrackID supplied (status code 400)
      *         or Unahtorized access. (status code 401)
      *         or Track not found (status code 404)
@@ -193,6 +195,7 @@ public interface TrackApi {
             @ApiResponse(responseCode = "200", description = "successful operation.", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = Track.class))
             }),
+            @ApiResponse(responseCode = "304", description = "Not modified."),
             @ApiResponse(responseCode = "400", description = "Invalid TrackID supplied"),
             @ApiResponse(responseCode = "401", description = "Unahtorized access."),
             @ApiResponse(responseCode = "404", description = "Track not found")
@@ -207,7 +210,8 @@ public interface TrackApi {
         produces = { "application/json" }
     )
     default ResponseEntity<Track> getTrackByID(
-        @Parameter(name = "trackID", description = "ID of the track to be returned.", required = true, in = ParameterIn.PATH) @PathVariable("trackID") Integer trackID
+        @Parameter(name = "trackID", description = "ID of the track to be returned.", required = true, in = ParameterIn.PATH) @PathVariable("trackID") Integer trackID,
+        @Parameter(name = "If-None-Match", description = "The ETag of the representation the client already has.", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -228,10 +232,12 @@ public interface TrackApi {
      * This operation can only be performed by the track&#39;s PC Chair, or the general chair of the associated event.
      *
      * @param track Track data to be changed. (optional)
+     * @param ifMatch The ETag of the representation the update is based on. (optional)
      * @return Track successfully updated. (status code 204)
      *         or Invalid Track object supplied. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or Track object not found. (status code 404)
+     *         or The entity was modified since the given ETag. (status code 412)
      */
     @Operation(
         operationId = "updateTrack",
@@ -242,7 +248,8 @@ public interface TrackApi {
             @ApiResponse(responseCode = "204", description = "Track successfully updated."),
             @ApiResponse(responseCode = "400", description = "Invalid Track object supplied."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
-            @ApiResponse(responseCode = "404", description = "Track object not found.")
+            @ApiResponse(responseCode = "404", description = "Track object not found."),
+            @ApiResponse(responseCode = "412", description = "The entity was modified since the given ETag.")
         },
         security = {
             @SecurityRequirement(name = "api_key")
@@ -254,7 +261,8 @@ public interface TrackApi {
         consumes = { "application/json" }
     )
     default ResponseEntity<Void> updateTrack(
-        @Parameter(name = "Track", description = "Track data to be changed.") @Valid @RequestBody(required = false) Track track
+        @Parameter(name = "Track", description = "Track data to be changed.") @Valid @RequestBody(required = false) Track track,
+        @Parameter(name = "If-Match", description = "The ETag of the representation the update is based on.", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
@@ -177,7 +177,9 @@ public interface UserApi {
      * GET /user/{userID} : Get a user account by userID.
      *
      * @param userID The userID of the user account. (required)
+     * @param ifNoneMatch The ETag of the representation the client already has. (optional)
      * @return successful operation (status code 200)
+     *         or Not modified. (status code 304)
      *         or Invalid userID supplied. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or User not found. (status code 404)
@@ -190,6 +192,7 @@ public interface UserApi {
             @ApiResponse(responseCode = "200", description = "successful operation", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = User.class))
             }),
+            @ApiResponse(responseCode = "304", description = "Not modified."),
             @ApiResponse(responseCode = "400", description = "Invalid userID supplied."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
             @ApiResponse(responseCode = "404", description = "User not found.")
@@ -204,7 +207,8 @@ public interface UserApi {
         produces = { "application/json" }
     )
     default ResponseEntity<User> getAccountByID(
-        @Parameter(name = "userID", description = "The userID of the user account.", required = true, in = ParameterIn.PATH) @PathVariable("userID") Long userID
+        @Parameter(name = "userID", description = "The userID of the user account.", required = true, in = ParameterIn.PATH) @PathVariable("userID") Long userID,
+        @Parameter(name = "If-None-Match", description = "The ETag of the representation the client already has.", in = ParameterIn.HEADER) @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
@@ -220,15 +224,66 @@ public interface UserApi {
     }
 
 
+    /**
+     * GET /user/search : Find the accounts matching a partially typed query.
+     * Every word of the query has to occur in, or start a word of, the names, email or affiliation of the user. The best matches come first.
+     *
+     * @param q The query. (required)
+     * @param limit Maximum number of accounts returned. (optional, default to 10)
+     * @return successful operation (status code 200)
+     *         or Invalid query supplied. (status code 400)
+     *         or Unauthorized access. (status code 401)
+     */
+    @Operation(
+        operationId = "searchAccounts",
+        summary = "Find the accounts matching a partially typed query.",
+        description = "Every word of the query has to occur in, or start a word of, the names, email or affiliation of the user. The best matches come first.",
+        tags = { "User Account Management" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "successful operation", content = {
+                @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = User.class)))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid query supplied."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access.")
+        },
+        security = {
+            @SecurityRequirement(name = "api_key")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/user/search",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<List<User>> searchAccounts(
+        @NotNull @Parameter(name = "q", description = "The query.", required = true, in = ParameterIn.QUERY) @Valid @RequestParam(value = "q", required = true) String q,
+        @Min(1) @Max(50) @Parameter(name = "limit", description = "Maximum number of accounts returned.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "limit", required = false, defaultValue = "10") Integer limit
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "[ { \"firstName\" : \"Marieke\", \"lastName\" : \"Smith\", \"preferredCommunication\" : \"e-mail\", \"affiliation\" : \"Fireman\", \"personalWebsite\" : \"myPersonalWebsite.com\", \"id\" : 10, \"email\" : \"pete@email.com\" } ]";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * PUT /user : Update a user&#39;s account information.
      * This operation can only be performed by the holder of a token with the same email as that which the user being updated has.
      *
      * @param user User information to be updated. (optional)
+     * @param ifMatch The ETag of the representation the update is based on. (optional)
      * @return User account successfully updated (status code 204)
      *         or Invalid User object supplied. (status code 400)
      *         or Unauthorized access. (status code 401)
      *         or User not found. (status code 404)
+     *         or The entity was modified since the given ETag. (status code 412)
      */
     @Operation(
         operationId = "updateAccount",
@@ -239,7 +294,8 @@ public interface UserApi {
             @ApiResponse(responseCode = "204", description = "User account successfully updated"),
             @ApiResponse(responseCode = "400", description = "Invalid User object supplied."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
-            @ApiResponse(responseCode = "404", description = "User not found.")
+            @ApiResponse(responseCode = "404", description = "User not found."),
+            @ApiResponse(responseCode = "412", description = "The entity was modified since the given ETag.")
         },
         security = {
             @SecurityRequirement(name = "api_key")
@@ -251,7 +307,8 @@ public interface UserApi {
         consumes = { "application/json" }
     )
     default ResponseEntity<Void> updateAccount(
-        @Parameter(name = "User", description = "User information to be updated.") @Valid @RequestBody(required = false) User user
+        @Parameter(name = "User", description = "User information to be updated.") @Valid @RequestBody(required = false) User user,
+        @Parameter(name = "If-Match", description = "The ETag of the representation the update is based on.", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
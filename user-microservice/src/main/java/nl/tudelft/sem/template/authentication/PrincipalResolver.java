@@ -0,0 +1,57 @@
+package nl.tudelft.sem.template.authentication;
+
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.services.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolves the authenticated principal to the identifier of its ```AppUser```.
+ * <p>
+ * The identifier is looked up at most once per request and is stored as a request
+ * attribute afterwards. Across requests, {@link UserService#getUserIdByEmail(Email)}
+ * keeps the mapping in a short-lived cache.
+ * </p>
+ */
+@Component
+public class PrincipalResolver {
+    private static final String USER_ID_ATTRIBUTE = PrincipalResolver.class.getName() + ".userId";
+
+    private final transient AuthManager authManager;
+    private final transient UserService userService;
+
+    /**
+     * Instantiates a new principal resolver.
+     *
+     * @param authManager Spring Security component used to authenticate the user
+     * @param userService the service used to look up the user
+     */
+    @Autowired
+    public PrincipalResolver(AuthManager authManager, UserService userService) {
+        this.authManager = authManager;
+        this.userService = userService;
+    }
+
+    /**
+     * Returns the identifier of the user in the current security context.
+     *
+     * @return the user identifier, or ```null``` if no such user exists.
+     */
+    public Long getUserId() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object resolved = request.getAttribute(USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (resolved != null) {
+                return (Long) resolved;
+            }
+        }
+
+        Long userId = userService.getUserIdByEmail(new Email(authManager.getEmail()));
+        if (request != null && userId != null) {
+            request.setAttribute(USER_ID_ATTRIBUTE, userId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userId;
+    }
+}
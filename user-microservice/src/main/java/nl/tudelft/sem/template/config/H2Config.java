@@ -1,5 +1,7 @@
 package nl.tudelft.sem.template.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
 import lombok.Getter;
 import org.springframework.context.annotation.Bean;
@@ -7,7 +9,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 
@@ -29,17 +30,32 @@ public class H2Config {
 
     /**
      * Set up the connection to the database.
+     * <p>
+     * Connections are handed out by a pool instead of being opened per transaction.
+     * Pool size, acquisition timeout, leak detection and the statement cache size can be
+     * tuned through the ```jdbc.pool.*``` properties. The pool metrics (active, idle, pending
+     * connections and acquisition time) are exported through the actuator metrics endpoint.
+     * </p>
      *
      * @return The data source.
      */
     @Bean
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(environment.getProperty("jdbc.driverClassName"));
-        dataSource.setUrl(environment.getProperty("jdbc.url"));
-        dataSource.setUsername(environment.getProperty("jdbc.user"));
-        dataSource.setPassword(environment.getProperty("jdbc.pass"));
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("user-pool");
+        config.setDriverClassName(environment.getProperty("jdbc.driverClassName"));
+        config.setJdbcUrl(environment.getProperty("jdbc.url"));
+        config.setUsername(environment.getProperty("jdbc.user"));
+        config.setPassword(environment.getProperty("jdbc.pass"));
 
-        return dataSource;
+        config.setMinimumIdle(environment.getProperty("jdbc.pool.minIdle", Integer.class, 2));
+        config.setMaximumPoolSize(environment.getProperty("jdbc.pool.maxSize", Integer.class, 10));
+        config.setConnectionTimeout(environment.getProperty("jdbc.pool.connectionTimeoutMs", Long.class, 3_000L));
+        config.setLeakDetectionThreshold(environment.getProperty("jdbc.pool.leakDetectionMs", Long.class, 10_000L));
+
+        // H2 caches the parsed statements of every pooled session
+        config.addDataSourceProperty("QUERY_CACHE_SIZE", environment.getProperty("jdbc.pool.statementCacheSize", "64"));
+
+        return new HikariDataSource(config);
     }
 }
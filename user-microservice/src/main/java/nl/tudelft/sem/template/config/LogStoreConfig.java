@@ -0,0 +1,100 @@
+package nl.tudelft.sem.template.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import nl.tudelft.sem.template.enums.BackpressurePolicy;
+import nl.tudelft.sem.template.logs.pipeline.ConsoleLogSink;
+import nl.tudelft.sem.template.logs.pipeline.LogPipeline;
+import nl.tudelft.sem.template.logs.pipeline.LogSink;
+import nl.tudelft.sem.template.logs.pipeline.LogStoreSink;
+import nl.tudelft.sem.template.logs.pipeline.MetricsLogSink;
+import nl.tudelft.sem.template.logs.store.SegmentedLogStore;
+import nl.tudelft.sem.template.logs.stream.ChangeStream;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * The audit log store, pipeline and change stream config.
+ */
+@Configuration
+public class LogStoreConfig {
+
+    private final transient Environment environment;
+
+    public LogStoreConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Open the store the logs of every change are appended to.
+     * <p>
+     * The location, the size of the segment files and how often appended logs are forced to disk
+     * can be tuned through the ```logs.store.*``` properties.
+     * </p>
+     *
+     * @return The log store.
+     * @throws IOException if the store cannot be opened.
+     */
+    @Bean
+    public SegmentedLogStore logStore() throws IOException {
+        return new SegmentedLogStore(
+                Paths.get(environment.getProperty("logs.store.directory", "./user-microservice/logs")),
+                environment.getProperty("logs.store.segmentSizeBytes", Integer.class, 64 * 1024 * 1024),
+                environment.getProperty("logs.store.syncBatchSize", Integer.class, 256),
+                environment.getProperty("logs.store.syncIntervalMs", Long.class, 100L));
+    }
+
+    /**
+     * Start the pipeline that moves the logs of every change off the request thread.
+     * <p>
+     * Logs always go to the store and the metrics; with ```logs.pipeline.console``` they are
+     * written to the application log as well. The buffer size, batch size and backpressure policy
+     * can be tuned through the ```logs.pipeline.*``` properties.
+     * </p>
+     *
+     * @param logStore      the store the logs are appended to
+     * @param meterRegistry the registry the pipeline metrics are published to
+     * @return The log pipeline.
+     */
+    @Bean
+    public LogPipeline logPipeline(SegmentedLogStore logStore, MeterRegistry meterRegistry) {
+        List<LogSink> sinks = new ArrayList<>();
+        sinks.add(new LogStoreSink(logStore));
+        sinks.add(new MetricsLogSink(meterRegistry));
+        if (environment.getProperty("logs.pipeline.console", Boolean.class, false)) {
+            sinks.add(new ConsoleLogSink());
+        }
+
+        return new LogPipeline(
+                environment.getProperty("logs.pipeline.capacity", Integer.class, 8192),
+                environment.getProperty("logs.pipeline.batchSize", Integer.class, 256),
+                environment.getProperty("logs.pipeline.backpressure", BackpressurePolicy.class, BackpressurePolicy.BLOCK),
+                environment.getProperty("logs.pipeline.sampleRate", Integer.class, 10),
+                sinks, meterRegistry);
+    }
+
+    /**
+     * Start the stream that pushes every committed change to the subscribed clients.
+     * <p>
+     * The per-subscriber buffer, the number of changes kept for reconnecting clients, the
+     * heartbeat interval and the lifetime of a stream can be tuned through the
+     * ```changes.stream.*``` properties.
+     * </p>
+     *
+     * @param meterRegistry the registry the stream metrics are published to
+     * @return The change stream.
+     */
+    @Bean
+    public ChangeStream changeStream(MeterRegistry meterRegistry) {
+        return new ChangeStream(
+                environment.getProperty("changes.stream.bufferSize", Integer.class, 256),
+                environment.getProperty("changes.stream.replaySize", Integer.class, 4096),
+                environment.getProperty("changes.stream.heartbeatMs", Long.class, 15_000L),
+                environment.getProperty("changes.stream.timeoutMs", Long.class, 30 * 60 * 1000L),
+                meterRegistry);
+    }
+}
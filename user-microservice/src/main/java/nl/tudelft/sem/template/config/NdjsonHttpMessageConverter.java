@@ -0,0 +1,63 @@
+package nl.tudelft.sem.template.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes collections as newline-delimited JSON, one element per line.
+ * <p>
+ * Each element is serialized on its own, so clients can parse the response
+ * line by line instead of as one JSON array. The collection is not streamed:
+ * it is a page the controller has already loaded, and is written as a whole.
+ * The converter is registered
+ * after the JSON one by ```WebMvcConfig```, so it only answers requests that
+ * accept NDJSON and not JSON.
+ * </p>
+ */
+public class NdjsonHttpMessageConverter extends AbstractHttpMessageConverter<Collection<?>> {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private final transient ObjectMapper objectMapper;
+
+    /**
+     * Instantiates a new NDJSON converter.
+     *
+     * @param objectMapper the mapper used to serialize every element
+     */
+    public NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Collection<?> readInternal(Class<? extends Collection<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("NDJSON request bodies are not supported.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Collection<?> elements, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        for (Object element : elements) {
+            body.write(objectMapper.writeValueAsBytes(element));
+            body.write('\n');
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package nl.tudelft.sem.template.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The configuration of the MVC message converters.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final transient ObjectMapper objectMapper;
+
+    @Autowired
+    public WebMvcConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Adds the NDJSON converter after the default ones, so that collections are still written as
+     * JSON arrays to clients accepting JSON.
+     *
+     * @param converters the converters configured so far
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new NdjsonHttpMessageConverter(objectMapper));
+    }
+}
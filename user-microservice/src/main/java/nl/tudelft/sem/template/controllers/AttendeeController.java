@@ -1,21 +1,20 @@
 package nl.tudelft.sem.template.controllers;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Set;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.api.AttendeeApi;
-import nl.tudelft.sem.template.authentication.AuthManager;
-import nl.tudelft.sem.template.domain.user.AppUser;
-import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
 import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.model.Attendee;
 import nl.tudelft.sem.template.model.Role;
 import nl.tudelft.sem.template.services.AttendeeService;
 import nl.tudelft.sem.template.services.EventService;
 import nl.tudelft.sem.template.services.InvitationService;
+import nl.tudelft.sem.template.services.TitleChange;
 import nl.tudelft.sem.template.services.TrackService;
-import nl.tudelft.sem.template.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,8 +29,11 @@ import org.springframework.web.bind.annotation.RestController;
 @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.AvoidDuplicateLiterals"})
 public class AttendeeController implements AttendeeApi {
 
-    private final transient AuthManager authManager;
-    private final transient UserService userService;
+    // The page size used when no limit is requested, and the largest allowed one
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final transient PrincipalResolver principalResolver;
     private final transient EventService eventService;
     private final transient TrackService trackService;
     private final transient AttendeeService attendeeService;
@@ -41,24 +43,20 @@ public class AttendeeController implements AttendeeApi {
     /**
      * Constructs a new Attendee controller.
      *
-     * @param authManager       Spring Security component used to authenticate and
-     *                          authorize the user
+     * @param principalResolver resolves the authenticated user of the request
      * @param attendeeService   a constructor injection for the Attendee Service class.
-     * @param userService       a constructor injection for the User Service class.
      * @param eventService      a constructor injection for the Event Service class.
      * @param trackService      a constructor injection for the Track Service class.
      * @param invitationService a constructor injection for the Invitation Service class.
      */
     @Autowired
-    public AttendeeController(AuthManager authManager,
+    public AttendeeController(PrincipalResolver principalResolver,
                               AttendeeService attendeeService,
-                              UserService userService,
                               EventService eventService,
                               TrackService trackService,
                               InvitationService invitationService) {
-        this.authManager = authManager;
+        this.principalResolver = principalResolver;
         this.attendeeService = attendeeService;
-        this.userService = userService;
         this.eventService = eventService;
         this.trackService = trackService;
         this.invitationService = invitationService;
@@ -68,8 +66,8 @@ public class AttendeeController implements AttendeeApi {
     @Transactional
     public ResponseEntity<Attendee> createAttendee(Attendee attendee) {
         // Authenticate the requester
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+        Long userId = principalResolver.getUserId();
+        if (userId == null) {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .header("message",  "Unauthorized access.")
@@ -124,8 +122,8 @@ public class AttendeeController implements AttendeeApi {
     public ResponseEntity<Void> deleteAttendee(Long attendeeId) {
 
         // Authenticate the requester
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+        Long userId = principalResolver.getUserId();
+        if (userId == null) {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .header("message",  "Unauthorized access.")
@@ -158,8 +156,8 @@ public class AttendeeController implements AttendeeApi {
     public ResponseEntity<Attendee> getAttendeeByID(Long attendeeId) {
 
         // Authenticate the requester
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+        Long userId = principalResolver.getUserId();
+        if (userId == null) {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .header("message",  "Unauthorized access.")
@@ -193,10 +191,12 @@ public class AttendeeController implements AttendeeApi {
     @Transactional
     public ResponseEntity<List<Attendee>> getFilteredAttendees(Long eventId,
                                                                List<Role> roles,
-                                                               Long trackId) {
+                                                               Long trackId,
+                                                               Integer limit,
+                                                               Long after) {
         // Authenticate the requester
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+        Long userId = principalResolver.getUserId();
+        if (userId == null) {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .header("message",  "Unauthorized access.")
@@ -211,42 +211,51 @@ public class AttendeeController implements AttendeeApi {
                     .header("message",  "Invalid attendee identifier was provided.")
                     .build();
         }
-        List<Attendee> modelledAttendees = new ArrayList<Attendee>();
-        try {
-            var retrievedAttendees = attendeeService.getFilteredAttendance(null,
-                    eventId,
-                    trackId,
-                    true);
+        int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .header("message",  "Invalid page limit was provided.")
+                    .build();
+        }
 
-            if (roles != null && !roles.isEmpty()) {
-                retrievedAttendees.removeIf((x) -> !roles
-                        .contains(Role.valueOf(x.getRole().getRoleTitle().name())));
-                if (retrievedAttendees.isEmpty()) {
-                    throw new NoSuchElementException();
-                }
+        // An absent or empty role filter admits every role
+        Set<RoleTitle> roleTitles = EnumSet.allOf(RoleTitle.class);
+        if (roles != null && !roles.isEmpty()) {
+            roleTitles = EnumSet.noneOf(RoleTitle.class);
+            for (Role role : roles) {
+                roleTitles.add(RoleTitle.valueOf(role.name()));
             }
+        }
 
-            for (var attendee : retrievedAttendees) {
-                modelledAttendees.add(attendee.toModel());
-            }
-        } catch (Exception e) {
+        var retrievedAttendees = attendeeService.getAttendancePage(eventId, trackId, roleTitles, after, pageSize);
+        if (retrievedAttendees.isEmpty() && after == null) {
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .header("message",  "No Attendee instance corresponding to the given identifier can be found.")
                     .build();
         }
-        return ResponseEntity
+
+        List<Attendee> modelledAttendees = new ArrayList<Attendee>(retrievedAttendees.size());
+        for (var attendee : retrievedAttendees) {
+            modelledAttendees.add(attendee.toModel());
+        }
+
+        // A full page may be followed by another one
+        var response = ResponseEntity
                 .status(HttpStatus.OK)
-                .header("message",  "successful operation")
-                .body(modelledAttendees);
+                .header("message",  "successful operation");
+        if (modelledAttendees.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(modelledAttendees.get(pageSize - 1).getId()));
+        }
+        return response.body(modelledAttendees);
     }
 
     @Override
-    @Transactional
     public ResponseEntity<Attendee> updateAttendee(Attendee attendee) {
         // Authenticate the requester
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+        Long userId = principalResolver.getUserId();
+        if (userId == null) {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .header("message",  "Unauthorized access.")
@@ -262,36 +271,30 @@ public class AttendeeController implements AttendeeApi {
                     .header("message",  "Invalid attendee object was provided.")
                     .build();
         }
-        if (!attendeeService.exists(attendee.getId())) { // confirm that the Attendance exists
-            // Otherwise it is a bad request.
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .header("message",  "Provided identifiers lead to nonexistent objects.")
-                    .build();
-        }
-
-        Attendee modifiedAttendee = null;
-
-        try {
-            // Modify the Role title if possible
-            modifiedAttendee = attendeeService
-                    .modifyTitle(user.getId(), attendee.getId(), RoleTitle.valueOf(attendee.getRole().name()))
-                    .toModel();
-        } catch (IllegalCallerException e) {
-            ResponseEntity
-                    .status(HttpStatus.UNAUTHORIZED)
-                    .header("message",  "No sufficient attendance permission.")
-                    .build();
-        } catch (IllegalArgumentException e1) {
-            ResponseEntity
-                    .status(HttpStatus.FORBIDDEN)
-                    .header("message",  "No sufficient number of general chairs to proceed with this operation.")
-                    .build();
+        // Modify the Role title if possible; a nonexistent attendance is a bad request
+        TitleChange change = attendeeService
+                .changeTitle(userId, attendee.getId(), RoleTitle.valueOf(attendee.getRole().name()));
+        switch (change.getOutcome()) {
+            case CHANGED:
+                return ResponseEntity
+                        .status(HttpStatus.OK)
+                        .header("message",  "successful operation")
+                        .body(change.getAttendee().toModel());
+            case NO_SUCH_ATTENDANCE:
+                return ResponseEntity
+                        .status(HttpStatus.BAD_REQUEST)
+                        .header("message",  "Provided identifiers lead to nonexistent objects.")
+                        .build();
+            case INVALID_GENERAL_CHAIR_COUNT:
+                return ResponseEntity
+                        .status(HttpStatus.FORBIDDEN)
+                        .header("message",  "No sufficient number of general chairs to proceed with this operation.")
+                        .build();
+            default:
+                return ResponseEntity
+                        .status(HttpStatus.UNAUTHORIZED)
+                        .header("message",  "No sufficient attendance permission.")
+                        .build();
         }
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .header("message",  "successful operation")
-                .body(modifiedAttendee);
     }
 }
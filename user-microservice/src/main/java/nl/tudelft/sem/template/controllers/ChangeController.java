@@ -0,0 +1,57 @@
+package nl.tudelft.sem.template.controllers;
+
+import nl.tudelft.sem.template.api.ChangesApi;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
+import nl.tudelft.sem.template.logs.stream.ChangeStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The controller for the real-time change stream.
+ */
+@RestController
+public class ChangeController implements ChangesApi {
+
+    private final transient PrincipalResolver principalResolver;
+    private final transient ChangeStream changeStream;
+
+    /**
+     * Constructs a new Change controller.
+     *
+     * @param principalResolver resolves the authenticated user of the request
+     * @param changeStream      the stream the subscribers are registered with
+     */
+    @Autowired
+    public ChangeController(PrincipalResolver principalResolver, ChangeStream changeStream) {
+        this.principalResolver = principalResolver;
+        this.changeStream = changeStream;
+    }
+
+    @Override
+    public ResponseEntity<SseEmitter> streamChanges(Long eventId, Long userId, Long lastEventId) {
+        // Authenticate the requester
+        Long requesterId = principalResolver.getUserId();
+        if (requesterId == null) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .header("message",  "Unauthorized access.")
+                    .build();
+        }
+
+        // Users may only follow the invitations and attendances of themselves
+        if (userId != null && !userId.equals(requesterId)) {
+            return ResponseEntity
+                    .status(HttpStatus.FORBIDDEN)
+                    .header("message",  "The changes of another user were requested.")
+                    .build();
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header("message",  "successful operation")
+                .body(changeStream.subscribe(eventId, userId, requesterId, lastEventId));
+    }
+}
@@ -0,0 +1,90 @@
+package nl.tudelft.sem.template.controllers;
+
+/**
+ * Derives the ETags of entity representations from the version of the entity, and evaluates
+ * the ```If-None-Match``` and ```If-Match``` preconditions against them.
+ */
+final class EntityTags {
+
+    /**
+     * The expected version of an ```If-Match``` header that no version can match.
+     */
+    static final long NO_VERSION = -1L;
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Returns the strong ETag of the given version of an entity.
+     *
+     * @param version the version of the entity
+     * @return the quoted ETag.
+     */
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Checks whether an ```If-None-Match``` header lists the given version of an entity. As
+     * prescribed for ```If-None-Match```, weak tags match as well.
+     *
+     * @param ifNoneMatch the header value, or null if it was not sent
+     * @param version     the current version of the entity
+     * @return true iff the client already has the current representation.
+     */
+    static boolean matches(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(candidate) || current.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the version an ```If-Match``` header requires the entity to be at.
+     *
+     * @param ifMatch the header value, or null if it was not sent
+     * @return null if any version is acceptable, the version of a single strong tag, or
+     *         {@link #NO_VERSION} for a header that no version can satisfy.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            // weak tags never match strongly, and a list of versions is not supported
+            return NO_VERSION;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return NO_VERSION;
+        }
+    }
+
+    /**
+     * Checks whether an ```If-Match``` header is satisfied by the current version of an entity.
+     * A missing entity satisfies any header, so that the end-point can answer 404 as usual.
+     *
+     * @param ifMatch the header value, or null if it was not sent
+     * @param version the current version of the entity, or null if it does not exist
+     * @return false iff the update is based on another version than the current one.
+     */
+    static boolean satisfies(String ifMatch, Long version) {
+        Long expected = expectedVersion(ifMatch);
+        return version == null || expected == null || expected.equals(version);
+    }
+}
@@ -1,24 +1,36 @@
 package nl.tudelft.sem.template.controllers;
 
+import java.net.URI;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.api.EventApi;
 import nl.tudelft.sem.template.authentication.AuthManager;
-import nl.tudelft.sem.template.domain.event.EventName;
 import nl.tudelft.sem.template.domain.event.EventRepository;
-import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.event.EventSpecifications;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.UserRepository;
 import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.model.Event;
+import nl.tudelft.sem.template.model.EventDeletion;
 import nl.tudelft.sem.template.services.AttendeeService;
+import nl.tudelft.sem.template.services.EventDeletionJobs;
+import nl.tudelft.sem.template.services.EventSearchIndex;
 import nl.tudelft.sem.template.services.EventService;
 import nl.tudelft.sem.template.services.RoleService;
 import nl.tudelft.sem.template.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -29,11 +41,27 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class EventController implements EventApi {
 
+    // The page size used when no limit is requested, and the largest allowed one
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    // A search sorted on a property only covers this many of the most relevant matches
+    private static final int MAX_SORTED_SEARCH_CANDIDATES = 1000;
+
+    // Maps the sort parameter of a search to the property of the events it sorts on
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "id",
+            "name", "name",
+            "start_date", "startDate",
+            "end_date", "endDate");
+
     private final transient AuthManager authManager;
     private final transient UserRepository userRepository;
     private final transient EventService eventService;
     private final transient EventRepository eventRepository;
     private final transient RoleService roleService;
+    private final transient EventSearchIndex eventSearchIndex;
+    private final transient EventDeletionJobs eventDeletionJobs;
 
     /**
      * Instantiates a new controller.
@@ -43,12 +71,15 @@ public class EventController implements EventApi {
      */
     @Autowired
     public EventController(AuthManager authManager, EventService eventService,
-            UserRepository userRepository, EventRepository eventRepository, RoleService roleService) {
+            UserRepository userRepository, EventRepository eventRepository, RoleService roleService,
+            EventSearchIndex eventSearchIndex, EventDeletionJobs eventDeletionJobs) {
         this.authManager = authManager;
         this.eventService = eventService;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.roleService = roleService;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventDeletionJobs = eventDeletionJobs;
     }
 
     @Override
@@ -78,27 +109,54 @@ public class EventController implements EventApi {
 
     @Override
     @Transactional
-    public ResponseEntity<Void> deleteEvent(Long eventId) {
+    public ResponseEntity<EventDeletion> deleteEvent(Long eventId, Boolean async) {
         if (!roleService.hasPermission(authManager, eventId, null, 0)) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
+        if (Boolean.TRUE.equals(async)) {
+            // Deleted in the background; the job tells how far the deletion got
+            EventDeletionJobs.Job job = eventDeletionJobs.submit(eventId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/event/deletion/" + job.getId()))
+                    .body(job.toModel());
+        }
         if (!eventService.deleteEvent(eventId)) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @Override
+    public ResponseEntity<EventDeletion> getEventDeletion(UUID jobId) {
+        if (!userRepository.existsByEmail(new Email(authManager.getEmail()))) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        return eventDeletionJobs.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toModel()))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
     @Override
     @Transactional
-    public ResponseEntity<Event> getEventById(Long eventId) {
+    public ResponseEntity<Event> getEventById(Long eventId, String ifNoneMatch) {
         if (!userRepository.existsByEmail(new Email(authManager.getEmail()))) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
-        if (!eventService.eventExistsById(eventId)) {
+        if (ifNoneMatch != null) {
+            // Answer a revalidation from the version alone, without loading the event
+            Long version = eventService.getEventVersion(eventId);
+            if (version == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            if (EntityTags.matches(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EntityTags.of(version)).build();
+            }
+        }
+        nl.tudelft.sem.template.domain.event.Event event = eventService.getEventById(eventId);
+        if (event == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Event event = eventService.getEventById(eventId).toModelEvent();
-        return ResponseEntity.ok(event);
+        return ResponseEntity.ok().eTag(EntityTags.of(event.getVersion())).body(event.toModelEvent());
     }
 
     @Override
@@ -109,23 +167,107 @@ public class EventController implements EventApi {
             LocalDate endBefore,
             LocalDate endAfter,
             Boolean cancelled,
-            String name) {
-        List<nl.tudelft.sem.template.domain.event.Event> events = eventRepository.findByOptionalParams(startBefore,
-            startAfter, endBefore, endAfter, new IsCancelled(cancelled), new EventName(name));
+            String name,
+            String search,
+            String sort,
+            String direction,
+            Integer page,
+            Integer limit) {
+        // Only the supplied criteria are added to the query
+        String property = SORTABLE_PROPERTIES.get(sort == null ? "id" : sort);
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction == null ? "asc" : direction)
+                .orElse(null);
+        int pageIndex = (page == null) ? 0 : page;
+        int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : limit;
+        if (property == null || sortDirection == null || pageIndex < 0 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Specification<nl.tudelft.sem.template.domain.event.Event> criteria =
+                EventSpecifications.matching(startBefore, startAfter, endBefore, endAfter, cancelled, name);
+        if (search != null) {
+            if (sort == null) {
+                return findEventByRelevance(search, criteria, pageIndex, pageSize);
+            }
+            // The search index narrows the events down to the most relevant matching ones
+            List<Long> ranked = eventSearchIndex.search(search, MAX_SORTED_SEARCH_CANDIDATES);
+            if (ranked.isEmpty()) {
+                return ResponseEntity.ok(List.of());
+            }
+            criteria = criteria.and(EventSpecifications.identifiedBy(ranked));
+        }
+
+        // Ties are broken on the identifier, so that the pages do not overlap
+        Sort order = Sort.by(sortDirection, property).and(Sort.by("id"));
+        Page<nl.tudelft.sem.template.domain.event.Event> events = eventRepository.findAll(
+            criteria, PageRequest.of(pageIndex, pageSize, order));
 
         List<Event> returnEvents = events.stream().map(nl.tudelft.sem.template.domain.event.Event::toModelEvent)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(returnEvents);
+        return page(returnEvents, pageIndex, events.hasNext());
+    }
+
+    /**
+     * Pages the events matching a search and the other criteria, the most relevant first.
+     * <p>
+     * Only the best candidates up to the end of the page, and one more to tell whether there is a
+     * next page, are taken from the index and loaded. While the other criteria reject too many of
+     * them, the index is asked for twice as many candidates, of which only the new ones are loaded.
+     * </p>
+     */
+    private ResponseEntity<List<Event>> findEventByRelevance(String search,
+            Specification<nl.tudelft.sem.template.domain.event.Event> criteria, int pageIndex, int pageSize) {
+        int wanted = (int) Math.min((pageIndex + 1L) * pageSize + 1, Integer.MAX_VALUE);
+        Set<Long> loaded = new HashSet<>();
+        Map<Long, nl.tudelft.sem.template.domain.event.Event> matches = new HashMap<>();
+        List<Long> ranked;
+        int candidates = wanted;
+        while (true) {
+            ranked = eventSearchIndex.search(search, candidates);
+            List<Long> unloaded = ranked.stream().filter(loaded::add).collect(Collectors.toList());
+            if (!unloaded.isEmpty()) {
+                eventRepository.findAll(criteria.and(EventSpecifications.identifiedBy(unloaded)))
+                        .forEach(event -> matches.put(event.getId(), event));
+            }
+            if (matches.size() >= wanted || ranked.size() < candidates || candidates == Integer.MAX_VALUE) {
+                break;
+            }
+            candidates = (int) Math.min(2L * candidates, Integer.MAX_VALUE);
+        }
+
+        List<Long> matching = ranked.stream().filter(matches::containsKey).collect(Collectors.toList());
+        List<Event> returnEvents = matching.stream()
+                .skip((long) pageIndex * pageSize)
+                .limit(pageSize)
+                .map(id -> matches.get(id).toModelEvent())
+                .collect(Collectors.toList());
+        return page(returnEvents, pageIndex, (long) (pageIndex + 1) * pageSize < matching.size());
+    }
+
+    /**
+     * Answers a page of events, pointing to the next page if there is one.
+     */
+    private static ResponseEntity<List<Event>> page(List<Event> events, int pageIndex, boolean hasNext) {
+        var response = ResponseEntity.ok();
+        if (hasNext) {
+            response.header("X-Next-Page", String.valueOf(pageIndex + 1));
+        }
+        return response.body(events);
     }
 
     @Override
-    public ResponseEntity<Event> updateEvent(Event event) {
+    public ResponseEntity<Event> updateEvent(Event event, String ifMatch) {
         if (!roleService.hasPermission(authManager, event.getId(), null, 0)) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
+        if (ifMatch != null && !EntityTags.satisfies(ifMatch, eventService.getEventVersion(event.getId()))) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         nl.tudelft.sem.template.domain.event.Event returnedEvent = eventService.updateEvent(event.getId(),
-            event.getStartDate(), event.getEndDate(), event.getIsCancelled(), event.getName(), event.getDescription());
+            event.getStartDate(), event.getEndDate(), event.getIsCancelled(), event.getName(), event.getDescription(),
+            EntityTags.expectedVersion(ifMatch));
 
         return ResponseEntity.ok(returnedEvent.toModelEvent());
     }
@@ -0,0 +1,136 @@
+package nl.tudelft.sem.template.controllers;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import nl.tudelft.sem.template.api.HistoryApi;
+import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.store.LogPage;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import nl.tudelft.sem.template.model.LogEntry;
+import nl.tudelft.sem.template.services.HistoryService;
+import nl.tudelft.sem.template.services.RoleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The controller for change-history-related API calls.
+ */
+@RestController
+public class HistoryController implements HistoryApi {
+
+    // The page size used when no limit is requested, and the largest allowed one
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final transient AuthManager authManager;
+    private final transient PrincipalResolver principalResolver;
+    private final transient HistoryService historyService;
+    private final transient RoleService roleService;
+
+    /**
+     * Constructs a new History controller.
+     *
+     * @param authManager       Spring Security component used to authenticate the user
+     * @param principalResolver resolves the authenticated user of the request
+     * @param historyService    a constructor injection for the History Service class.
+     * @param roleService       the service checking the permissions of the user within an event
+     */
+    @Autowired
+    public HistoryController(AuthManager authManager, PrincipalResolver principalResolver,
+                             HistoryService historyService, RoleService roleService) {
+        this.authManager = authManager;
+        this.principalResolver = principalResolver;
+        this.historyService = historyService;
+        this.roleService = roleService;
+    }
+
+    @Override
+    public ResponseEntity<List<LogEntry>> getHistory(String logType, Long subjectId, String kind,
+                                                     OffsetDateTime from, OffsetDateTime to,
+                                                     Integer limit, Long after) {
+        // Authenticate the requester
+        Long requesterId = principalResolver.getUserId();
+        if (requesterId == null) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .header("message",  "Unauthorized access.")
+                    .build();
+        }
+
+        LogType parsedType;
+        LogKind parsedKind;
+        try {
+            parsedType = LogType.valueOf(logType.toUpperCase(Locale.ROOT));
+            parsedKind = (kind == null) ? null : LogKind.valueOf(kind.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .header("message",  "Invalid subject type or kind filter was provided.")
+                    .build();
+        }
+        int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : limit;
+        if (subjectId == null || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .header("message",  "Invalid subject identifier or page limit was provided.")
+                    .build();
+        }
+
+        // Users may only read the history of themselves, and of their attendances unless they chair the event
+        if (parsedType == LogType.USER && !subjectId.equals(requesterId)) {
+            return forbidden();
+        }
+        if (parsedType == LogType.ATTENDEE) {
+            LogRecord first = historyService.getFirstChange(parsedType, subjectId);
+            if (first == null) {
+                return ResponseEntity
+                        .status(HttpStatus.NOT_FOUND)
+                        .header("message",  "No changes were recorded for the given subject.")
+                        .build();
+            }
+            if (!requesterId.equals(first.getUserId())
+                    && !roleService.hasPermission(authManager, first.getEventId(), null, 0)) {
+                return forbidden();
+            }
+        }
+
+        Instant fromInstant = (from == null) ? null : from.toInstant();
+        Instant toInstant = (to == null) ? null : to.toInstant();
+        LogPage page = historyService.getHistory(parsedType, subjectId, parsedKind,
+                fromInstant, toInstant, after, pageSize);
+        if (page.getRecords().isEmpty() && after == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .header("message",  "No changes were recorded for the given subject.")
+                    .build();
+        }
+
+        List<LogEntry> entries = new ArrayList<>(page.getRecords().size());
+        for (LogRecord record : page.getRecords()) {
+            entries.add(record.toModel());
+        }
+
+        var response = ResponseEntity
+                .status(HttpStatus.OK)
+                .header("message",  "successful operation");
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", String.valueOf(page.getNextCursor()));
+        }
+        return response.body(entries);
+    }
+
+    private static ResponseEntity<List<LogEntry>> forbidden() {
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .header("message",  "The history of another user or of their attendances was requested.")
+                .build();
+    }
+}
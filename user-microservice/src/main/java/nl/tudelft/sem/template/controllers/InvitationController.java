@@ -4,11 +4,12 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import nl.tudelft.sem.template.api.InvitationsApi;
-import nl.tudelft.sem.template.authentication.AuthManager;
-import nl.tudelft.sem.template.domain.user.AppUser;
-import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
+import nl.tudelft.sem.template.domain.attendee.BatchInvitation;
 import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.model.Invitation;
+import nl.tudelft.sem.template.model.InvitationBatch;
+import nl.tudelft.sem.template.model.InvitationResult;
 import nl.tudelft.sem.template.services.AttendeeService;
 import nl.tudelft.sem.template.services.EventService;
 import nl.tudelft.sem.template.services.InvitationService;
@@ -28,7 +29,10 @@ import org.springframework.web.bind.annotation.RestController;
 @SuppressWarnings({"PMD.AvoidDuplicateLiterals"})
 public class InvitationController implements InvitationsApi {
 
-	private final transient AuthManager authManager;
+	// The largest number of users that can be invited in one batch
+	private static final int MAX_BATCH_SIZE = 1000;
+
+	private final transient PrincipalResolver principalResolver;
 	private final transient UserService userService;
 	private final transient EventService eventService;
 	private final transient TrackService trackService;
@@ -39,8 +43,7 @@ public class InvitationController implements InvitationsApi {
 	/**
 	 * Constructs a new Invitation controller.
 	 *
-	 * @param authManager       Spring Security component used to authenticate and
-	 *                          authorize the user
+	 * @param principalResolver resolves the authenticated user of the request
 	 * @param attendeeService   a constructor injection for the Attendee Service class.
 	 * @param userService       a constructor injection for the User Service class.
 	 * @param eventService      a constructor injection for the Event Service class.
@@ -48,13 +51,13 @@ public class InvitationController implements InvitationsApi {
 	 * @param invitationService a constructor injection for the Invitation Service class.
 	 */
 	@Autowired
-	public InvitationController(AuthManager authManager,
+	public InvitationController(PrincipalResolver principalResolver,
 							  AttendeeService attendeeService,
 							  UserService userService,
 							  EventService eventService,
 							  TrackService trackService,
 							  InvitationService invitationService) {
-		this.authManager = authManager;
+		this.principalResolver = principalResolver;
 		this.attendeeService = attendeeService;
 		this.userService = userService;
 		this.eventService = eventService;
@@ -63,13 +66,13 @@ public class InvitationController implements InvitationsApi {
 	}
 
 	@Override
-	public ResponseEntity<Invitation> acceptInvitation(Integer invitationId) {
+	public ResponseEntity<Invitation> acceptInvitation(Integer invitationId, String ifMatch) {
 		if (invitationId == null) {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
 		}
 
-		AppUser executor = userService.getUserByEmail(new Email(authManager.getEmail()));
-		if (executor == null) {
+		Long executorId = principalResolver.getUserId();
+		if (executorId == null) {
 			// Executor does not exist.
 			return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
 		}
@@ -78,8 +81,15 @@ public class InvitationController implements InvitationsApi {
 			return new ResponseEntity<>(HttpStatus.NOT_FOUND); // 404
 		}
 
+		Long expectedVersion = EntityTags.expectedVersion(ifMatch);
+		Long currentVersion = ifMatch == null ? null : attendeeService.getAttendanceVersion(new Long(invitationId));
+		if (!EntityTags.satisfies(ifMatch, currentVersion)) {
+			// The invitation was changed since the executor last saw it.
+			return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED); // 412
+		}
+
 		try {
-			Invitation invitation = invitationService.accept(executor.getId(), new Long(invitationId))
+			Invitation invitation = invitationService.accept(executorId, new Long(invitationId), expectedVersion)
 										.toInvitationModel();
 			return ResponseEntity.ok(invitation); // 200
 		} catch (IllegalArgumentException e) {
@@ -103,14 +113,14 @@ public class InvitationController implements InvitationsApi {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
 		}
 
-		AppUser executor = userService.getUserByEmail(new Email(authManager.getEmail()));
-		if (executor == null) {
+		Long executorId = principalResolver.getUserId();
+		if (executorId == null) {
 			// Executor does not exist.
 			return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
 		}
 
 		try {
-			invitationService.invite(executor.getId(), invitation.getUserId(), invitation.getEventId(),
+			invitationService.invite(executorId, invitation.getUserId(), invitation.getEventId(),
 					invitation.getTrackId(), RoleTitle.valueOf(invitation.getRole().name()));
 		}  catch (NoSuchElementException e) {
 			// Executor doesn't attend.
@@ -123,6 +133,42 @@ public class InvitationController implements InvitationsApi {
 		return ResponseEntity.ok(invitation); // 200
 	}
 
+	@Override
+	public ResponseEntity<List<InvitationResult>> createInvitations(InvitationBatch invitationBatch) {
+		if (invitationBatch == null                         // Confirm that the batch was parsed correctly
+			|| invitationBatch.getEventId() == null         // Confirm correct parsing of event identifier
+			|| invitationBatch.getRole() == null            // Confirm correct parsing of the attendance role
+			|| invitationBatch.getUserIds() == null         // Confirm that users are supplied
+			|| invitationBatch.getUserIds().isEmpty()
+			|| invitationBatch.getUserIds().size() > MAX_BATCH_SIZE
+			|| invitationBatch.getUserIds().contains(null)
+			|| eventService.getEventById(invitationBatch.getEventId()) == null  // Confirm that the event exists
+			|| (invitationBatch.getTrackId() != null                            // If the identifier is supplied
+			&& !trackService.exists(invitationBatch.getTrackId()))) {           // Confirm that the track exists
+			return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
+		}
+
+		Long executorId = principalResolver.getUserId();
+		if (executorId == null) {
+			// Executor does not exist.
+			return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
+		}
+
+		List<BatchInvitation> outcomes;
+		try {
+			outcomes = invitationService.inviteAll(executorId, invitationBatch.getUserIds(),
+					invitationBatch.getEventId(), invitationBatch.getTrackId(),
+					RoleTitle.valueOf(invitationBatch.getRole().name()));
+		} catch (NoSuchElementException e) {
+			// Executor doesn't attend, or has insufficient permission.
+			return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
+		}
+
+		return ResponseEntity.ok(outcomes.stream()
+				.map(BatchInvitation::toModel)
+				.collect(Collectors.toList())); // 200
+	}
+
 
 	@Override
 	public ResponseEntity<Void> deleteInvitation(Integer invitationId) {
@@ -130,8 +176,8 @@ public class InvitationController implements InvitationsApi {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
 		}
 
-		AppUser executor = userService.getUserByEmail(new Email(authManager.getEmail()));
-		if (executor == null) {
+		Long executorId = principalResolver.getUserId();
+		if (executorId == null) {
 			// Executor does not exist.
 			return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
 		}
@@ -141,7 +187,7 @@ public class InvitationController implements InvitationsApi {
 		}
 
 		try {
-			invitationService.remove(executor.getId(), new Long(invitationId));
+			invitationService.remove(executorId, new Long(invitationId));
 		} catch (IllegalArgumentException e) {
 			// Executor does not have permission to accept attendance.
 			return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
@@ -151,18 +197,33 @@ public class InvitationController implements InvitationsApi {
 	}
 
 	@Override
-	public ResponseEntity<Invitation> getInvitation(Integer invitationId) {
+	public ResponseEntity<Invitation> getInvitation(Integer invitationId, String ifNoneMatch) {
 		if (invitationId == null) {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
 		}
 
+		if (ifNoneMatch != null) {
+			// Answer a revalidation from the version alone, without loading the invitation.
+			Long version = attendeeService.getAttendanceVersion(invitationId.longValue());
+			if (version == null) {
+				return new ResponseEntity<>(HttpStatus.NOT_FOUND); // 404
+			}
+			if (EntityTags.matches(ifNoneMatch, version)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+						.eTag(EntityTags.of(version))
+						.build(); // 304
+			}
+		}
+
 		nl.tudelft.sem.template.domain.attendee.Attendee attendee = attendeeService.getAttendance(
 				new Long(invitationId));
 		if (attendee == null) {
 			return new ResponseEntity<>(HttpStatus.NOT_FOUND); // 404
 		}
 
-		return ResponseEntity.ok(attendee.toInvitationModel()); // 200
+		return ResponseEntity.ok()
+				.eTag(EntityTags.of(attendee.getVersion()))
+				.body(attendee.toInvitationModel()); // 200
 	}
 
 	@Override
@@ -173,7 +234,7 @@ public class InvitationController implements InvitationsApi {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
 		}
 
-		List<Invitation> invitations = attendeeService.getFilteredAttendance(userId, eventId, trackId, false)
+		List<Invitation> invitations = attendeeService.findAttendance(userId, eventId, trackId, false)
 				.stream()
 				.map(nl.tudelft.sem.template.domain.attendee.Attendee::toInvitationModel)
 				.collect(Collectors.toList());
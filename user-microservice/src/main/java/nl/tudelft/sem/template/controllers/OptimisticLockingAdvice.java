@@ -0,0 +1,33 @@
+package nl.tudelft.sem.template.controllers;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers updates that lost a race with a concurrent update of the same entity.
+ * <p>
+ * The end-points compare the ```If-Match``` version themselves, but two updates based on the same
+ * version can still both pass that check. The one that commits last is rejected by the version
+ * column when its transaction commits, which is after the end-point has returned.
+ * </p>
+ */
+@RestControllerAdvice
+public class OptimisticLockingAdvice {
+
+    /**
+     * Maps a conflicting update to 412 Precondition Failed.
+     *
+     * @param e the conflict
+     * @return the error response
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleConflict(OptimisticLockingFailureException e) {
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .header("message",  "The entity was modified concurrently.")
+                .build();
+    }
+}
@@ -6,14 +6,13 @@ import java.util.NoSuchElementException;
 import javax.validation.Valid;
 import nl.tudelft.sem.template.api.TrackApi;
 import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
 import nl.tudelft.sem.template.domain.track.Title;
-import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.model.PaperType;
 import nl.tudelft.sem.template.model.Track;
 import nl.tudelft.sem.template.services.AttendeeService;
 import nl.tudelft.sem.template.services.RoleService;
 import nl.tudelft.sem.template.services.TrackService;
-import nl.tudelft.sem.template.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,23 +29,23 @@ import org.springframework.web.bind.annotation.RestController;
 public class TrackController implements TrackApi {
     private final transient AuthManager authManager;
     private final transient TrackService trackService;
-    private final transient UserService userService;
+    private final transient PrincipalResolver principalResolver;
     private final transient RoleService roleService;
 
     /**
      * Constructs a new instance of Track Controller.
      *
-     * @param authManager     Used for authentication-related checks.
-     * @param trackService    The service for managing track-related operations.
-     * @param userService     The service for managing user-related operations.
-     * @param roleService     The service for managing role-related operations.
+     * @param authManager       Used for authentication-related checks.
+     * @param trackService      The service for managing track-related operations.
+     * @param principalResolver Resolves the authenticated user of the request.
+     * @param roleService       The service for managing role-related operations.
      */
     @Autowired
     public TrackController(AuthManager authManager, RoleService roleService, TrackService trackService,
-                           UserService userService) {
+                           PrincipalResolver principalResolver) {
         this.authManager = authManager;
         this.trackService = trackService;
-        this.userService = userService;
+        this.principalResolver = principalResolver;
         this.roleService = roleService;
     }
 
@@ -75,18 +74,23 @@ public class TrackController implements TrackApi {
     /**
      * Updates an existing track account and saves it in the repository.
      *
-     * @param track the updated track account to be saved.
+     * @param track   the updated track account to be saved.
+     * @param ifMatch the ETag of the version the update is based on, if any
      * @return the updated track that was saved.
      */
     @Override
     @Transactional
-    public ResponseEntity<Void> updateTrack(@Valid Track track) {
+    public ResponseEntity<Void> updateTrack(@Valid Track track, String ifMatch) {
         try {
             if (!roleService.hasPermission(authManager, track.getEventId(), track.getId(), 1)) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
             }
+            if (ifMatch != null && !EntityTags.satisfies(ifMatch, trackService.getTrackVersion(track.getId()))) {
+                return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED); // 412
+            }
             trackService.updateTrack(track.getId(), track.getTitle(), track.getDescription(), track.getSubmitDeadline(),
-                    track.getReviewDeadline(), track.getPaperType(), track.getEventId());
+                    track.getReviewDeadline(), track.getPaperType(), track.getEventId(),
+                    EntityTags.expectedVersion(ifMatch));
             return new ResponseEntity<>(HttpStatus.NO_CONTENT); // 204
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
@@ -124,18 +128,29 @@ public class TrackController implements TrackApi {
     /**
      * Retrieves the track with the specified id.
      *
-     * @param trackId id of a track
+     * @param trackId     id of a track
+     * @param ifNoneMatch the ETags of the versions the client already has, if any
      * @return track with this id if exists, else null
      */
     @Override
     @Transactional
-    public ResponseEntity<Track> getTrackByID(@PathVariable("trackId") Integer trackId) {
+    public ResponseEntity<Track> getTrackByID(@PathVariable("trackId") Integer trackId, String ifNoneMatch) {
         try {
-            if (!userService.userExistsByEmail(new Email(authManager.getEmail()))) {
+            if (principalResolver.getUserId() == null) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
             }
-            Track track = trackService.getTrackById(trackId.longValue()).toModelTrack();
-            return ResponseEntity.ok(track); // 200
+            if (ifNoneMatch != null) {
+                // Answer a revalidation from the version alone, without loading the track
+                Long version = trackService.getTrackVersion(trackId.longValue());
+                if (version == null) {
+                    return new ResponseEntity<>(HttpStatus.NOT_FOUND); // 404
+                }
+                if (EntityTags.matches(ifNoneMatch, version)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EntityTags.of(version)).build(); // 304
+                }
+            }
+            nl.tudelft.sem.template.domain.track.Track track = trackService.getTrackById(trackId.longValue());
+            return ResponseEntity.ok().eTag(EntityTags.of(track.getVersion())).body(track.toModelTrack()); // 200
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
         } catch (NoSuchElementException e) {
@@ -155,7 +170,7 @@ public class TrackController implements TrackApi {
     @Transactional
     public ResponseEntity<List<Track>> getTrack(String title, Integer eventId, PaperType paperType) {
         try {
-            if (!userService.userExistsByEmail(new Email(authManager.getEmail()))) {
+            if (principalResolver.getUserId() == null) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
             }
             List<Track> tracks;
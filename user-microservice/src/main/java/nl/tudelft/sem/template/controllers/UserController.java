@@ -1,14 +1,17 @@
 package nl.tudelft.sem.template.controllers;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import javax.persistence.EntityExistsException;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.api.UserApi;
-import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.model.User;
+import nl.tudelft.sem.template.services.TokenIndex;
 import nl.tudelft.sem.template.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -22,39 +25,55 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 public class UserController implements UserApi {
+    // The number of users found when no limit is requested, and the largest allowed one
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final transient UserService userService;
-    private final transient AuthManager authManager;
+    private final transient PrincipalResolver principalResolver;
 
     /**
      * Instantiates a new User controller.
      *
-     * @param userService used to manage user services
-     * @param authManager Used for authentication-related checks.
+     * @param userService       used to manage user services
+     * @param principalResolver resolves the authenticated user of the request
      */
     @Autowired
-    public UserController(UserService userService, AuthManager authManager) {
+    public UserController(UserService userService, PrincipalResolver principalResolver) {
         this.userService = userService;
-        this.authManager = authManager;
+        this.principalResolver = principalResolver;
     }
 
     /**
      * Checks whether a user with the given id exists, retrieves it if yes.
      *
      * @param userId - id of the to be found user
+     * @param ifNoneMatch - the ETags of the versions the client already has, if any
      * @return - bad request if invalid id, unauthorized access if expired token,
-     *           not found if user not found, appUser if user found
+     *           not found if user not found, not modified if the client has the current version,
+     *           appUser if user found
      */
     @Override
     @Transactional
-    public ResponseEntity<User> getAccountByID(@PathVariable("userID") Long userId) {
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+    public ResponseEntity<User> getAccountByID(@PathVariable("userID") Long userId, String ifNoneMatch) {
+        if (principalResolver.getUserId() == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        if (!userService.userExistsById(userId)) {
+        if (ifNoneMatch != null) {
+            // Answer a revalidation from the version alone, without loading the user
+            Long version = userService.getUserVersion(userId);
+            if (version == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            if (EntityTags.matches(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EntityTags.of(version)).build();
+            }
+        }
+        AppUser user = userService.getUserById(userId);
+        if (user == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        return ResponseEntity.ok(userService.getUserById(userId).toModelUser());
+        return ResponseEntity.ok().eTag(EntityTags.of(user.getVersion())).body(user.toModelUser());
     }
 
     /**
@@ -70,14 +89,38 @@ public class UserController implements UserApi {
         if (!email.contains("@")) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
-        AppUser user = userService.getUserByEmail(new Email(authManager.getEmail()));
-        if (user == null) {
+        if (principalResolver.getUserId() == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        if (!userService.userExistsByEmail(new Email(email))) {
+        AppUser user = userService.getUserByEmail(new Email(email));
+        if (user == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        return ResponseEntity.ok(userService.getUserByEmail(new Email(email)).toModelUser());
+        return ResponseEntity.ok(user.toModelUser());
+    }
+
+    /**
+     * Finds the users best matching a partially typed query, for instance to invite them.
+     *
+     * @param q - the words, or beginnings of words, in the names, email or affiliation of the users
+     * @param limit - the maximum number of users to return
+     * @return - bad request if the query has no words or the limit is out of range,
+     *           unauthorized access if expired token, the matching users otherwise
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<List<User>> searchAccounts(String q, Integer limit) {
+        int count = (limit == null) ? DEFAULT_SEARCH_LIMIT : limit;
+        if (TokenIndex.tokenize(q).isEmpty() || count < 1 || count > MAX_SEARCH_LIMIT) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        if (principalResolver.getUserId() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        List<User> users = userService.searchUsers(q, count).stream()
+                .map(AppUser::toModelUser)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(users);
     }
 
     /**
@@ -104,17 +147,22 @@ public class UserController implements UserApi {
      * This method updates an existing User Account.
      *
      * @param updatedUser - user account to be updated
+     * @param ifMatch - the ETag of the version the update is based on, if any
      * @return responseEntity of method
      */
     @Override
     @Transactional
-    public ResponseEntity<Void> updateAccount(@RequestBody User updatedUser) {
+    public ResponseEntity<Void> updateAccount(@RequestBody User updatedUser, String ifMatch) {
         // Check if the updatedUser is null or has missing required fields
         try {
-            if (!userService.userExistsByEmail(new Email(authManager.getEmail()))) {
+            if (principalResolver.getUserId() == null) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
             }
-            userService.updateUser(new AppUser(updatedUser));
+            AppUser appUser = new AppUser(updatedUser);
+            if (ifMatch != null && !EntityTags.satisfies(ifMatch, userService.getUserVersion(appUser.getId()))) {
+                return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED); // 412
+            }
+            userService.updateUser(appUser, EntityTags.expectedVersion(ifMatch));
             return new ResponseEntity<>(HttpStatus.NO_CONTENT); // 204
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // 400
@@ -133,12 +181,11 @@ public class UserController implements UserApi {
     @Transactional
     public ResponseEntity<Void> deleteAccount(@PathVariable("userID") Long userId) {
         try {
-            Email email = new Email(authManager.getEmail());
-            if (!userService.userExistsByEmail(email)) {
+            Long callerId = principalResolver.getUserId();
+            if (callerId == null) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
             }
-            AppUser user = userService.getUserByEmail(email);
-            if (!Objects.equals(user.getId(), userId)) {
+            if (!Objects.equals(callerId, userId)) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED); // 401
             }
             userService.deleteUser(userId);
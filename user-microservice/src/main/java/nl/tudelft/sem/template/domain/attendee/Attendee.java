@@ -10,8 +10,9 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
-import lombok.AllArgsConstructor;
+import javax.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
@@ -34,15 +35,19 @@ import nl.tudelft.sem.template.logs.attendee.AttendeeLogFactory;
 @Table(name = "attendees")
 @Getter
 @NoArgsConstructor(force = true)
-@AllArgsConstructor
 public class Attendee extends HasEvents {
 
     // Contains the attendance identifier
     @Id
     @Column(name = "id", nullable = false, unique = true)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendees_seq")
+    @SequenceGenerator(name = "attendees_seq", sequenceName = "attendees_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Setter
     @Column(name = "role", nullable = false)
     @Convert(converter = RoleAttributeConverter.class)
@@ -66,6 +71,18 @@ public class Attendee extends HasEvents {
         this.id = id;
     }
 
+    /**
+     * A constructor that sets every field apart from the version, which is managed by JPA.
+     */
+    public Attendee(Long id, Role role, Confirmation confirmation, Event event, Track track, AppUser user) {
+        this.id = id;
+        this.role = role;
+        this.confirmation = confirmation;
+        this.event = event;
+        this.track = track;
+        this.user = user;
+    }
+
     /**
      * A constructor.
      */
@@ -0,0 +1,21 @@
+package nl.tudelft.sem.template.domain.attendee;
+
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * The keyset-paginated retrieval of attendances, as a fragment of {@link AttendeeRepository}.
+ */
+public interface AttendeePageRepository {
+
+    /**
+     * Retrieves the first attendances matching the criteria, ordered by identifier. The user,
+     * event and track are fetched along with the attendances. Unlike the paged retrievals of
+     * Spring Data, the matching attendances are not counted.
+     *
+     * @param criteria          the criteria the attendances match
+     * @param limit             the size of the page
+     * @return                  at most a page of attendances matching the criteria.
+     */
+    List<Attendee> findPage(Specification<Attendee> criteria, int limit);
+}
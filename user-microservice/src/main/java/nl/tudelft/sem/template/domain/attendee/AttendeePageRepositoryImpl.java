@@ -0,0 +1,38 @@
+package nl.tudelft.sem.template.domain.attendee;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Implements {@link AttendeePageRepository} with a criteria query, which only holds the
+ * predicates of the supplied criteria.
+ */
+public class AttendeePageRepositoryImpl implements AttendeePageRepository {
+
+    @PersistenceContext
+    private transient EntityManager entityManager;
+
+    @Override
+    public List<Attendee> findPage(Specification<Attendee> criteria, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Attendee> query = builder.createQuery(Attendee.class);
+        Root<Attendee> root = query.from(Attendee.class);
+        root.fetch("user");
+        root.fetch("event");
+        root.fetch("track", JoinType.LEFT);
+
+        Predicate predicate = criteria.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
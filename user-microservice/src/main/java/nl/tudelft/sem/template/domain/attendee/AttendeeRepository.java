@@ -1,12 +1,15 @@
 package nl.tudelft.sem.template.domain.attendee;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import lombok.NonNull;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +18,7 @@ import org.springframework.stereotype.Repository;
  * A DDD repository for querying and persisting Attendee aggregate roots.
  */
 @Repository
-public interface AttendeeRepository extends JpaRepository<Attendee, Long> {
+public interface AttendeeRepository extends JpaRepository<Attendee, Long>, AttendeePageRepository {
 
     Optional<Attendee> findByUserAndEventAndTrackAndConfirmation(AppUser user,
                                                                  Event event,
@@ -31,24 +34,137 @@ public interface AttendeeRepository extends JpaRepository<Attendee, Long> {
 
     /**
      * A customized retrieval that filters on the basis of users, events,
-     * or track. The filtration occur only if a non-null filter is provided;
-     * otherwise, the filter is ignored.
+     * or track identifiers. The filtration occur only if a non-null filter is provided;
+     * otherwise, the filter is ignored. The user, event and track are fetched
+     * along with the attendances, so the whole list costs a single statement.
      *
-     * @param user              the user filter
-     * @param event             the event filter
-     * @param track             the track filter
+     * @param userId            the user identifier filter
+     * @param eventId           the event identifier filter
+     * @param trackId           the track identifier filter
      * @param confirmation      the confirmation status filter
      * @return                  all attendees that pass all the filters.
      *
      *
      */
     @Query("SELECT a FROM Attendee a "
-            + "WHERE (:user is null OR a.user = :user) "
-            + "AND (:event is null OR a.event = :event) "
-            + "AND (:track is null OR a.track = :track) "
+            + "JOIN FETCH a.user JOIN FETCH a.event LEFT JOIN FETCH a.track "
+            + "WHERE (:userId is null OR a.user.id = :userId) "
+            + "AND (:eventId is null OR a.event.id = :eventId) "
+            + "AND (:trackId is null OR a.track.id = :trackId) "
             + "AND (:confirmation is null OR a.confirmation = :confirmation)")
-    List<Attendee> findFiltered(@Param("user") AppUser user,
-                                @Param("event") Event event,
-                                @Param("track") Track track,
+    List<Attendee> findFiltered(@Param("userId") Long userId,
+                                @Param("eventId") Long eventId,
+                                @Param("trackId") Long trackId,
                                 @Param("confirmation") Confirmation confirmation);
+
+    /**
+     * Retrieves which of the given users already have an attendance, confirmed or not,
+     * for the event and track. A null track denotes the event-level attendance.
+     *
+     * @param userIds           the user identifiers to check
+     * @param eventId           the event identifier
+     * @param trackId           the track identifier
+     * @return                  the identifiers of the users that already attend.
+     */
+    @Query("SELECT a.user.id FROM Attendee a "
+            + "WHERE a.user.id IN :userIds "
+            + "AND a.event.id = :eventId "
+            + "AND ((:trackId is null AND a.track is null) OR a.track.id = :trackId)")
+    List<Long> findAttendingUserIds(@Param("userIds") Collection<Long> userIds,
+                                    @Param("eventId") Long eventId,
+                                    @Param("trackId") Long trackId);
+
+    /**
+     * Retrieves the distinct roles a user has within the scope of an event or one of its tracks,
+     * being the attendances of the event itself and, if a track is given, of that track.
+     *
+     * @param userId            the user identifier
+     * @param eventId           the event identifier
+     * @param trackId           the track identifier, or null for the event itself
+     * @param confirmation      the confirmation status of the attendances
+     * @return                  the roles of the user within the scope.
+     */
+    @Query("SELECT DISTINCT a.role FROM Attendee a "
+            + "WHERE a.user.id = :userId "
+            + "AND a.event.id = :eventId "
+            + "AND (a.track is null OR a.track.id = :trackId) "
+            + "AND a.confirmation = :confirmation")
+    List<Role> findRolesInScope(@Param("userId") Long userId,
+                                @Param("eventId") Long eventId,
+                                @Param("trackId") Long trackId,
+                                @Param("confirmation") Confirmation confirmation);
+
+    /**
+     * Retrieves the strongest permission a user has within the scope of an event or one of its
+     * tracks, as the least permission of its confirmed roles there. The roles are stored by name,
+     * so the minimum is taken over the few distinct roles a single statement returns, keeping
+     * ```RoleTitle``` the only source of the permissions.
+     *
+     * @param userId            the user identifier
+     * @param eventId           the event identifier
+     * @param trackId           the track identifier, or null for the event itself
+     * @return                  the permission, or empty if the user does not attend the scope.
+     */
+    default OptionalInt findMinimumPermission(Long userId, Long eventId, Long trackId) {
+        return findRolesInScope(userId, eventId, trackId, new Confirmation(true)).stream()
+                .mapToInt(role -> role.getRoleTitle().getPermission())
+                .min();
+    }
+
+    /**
+     * Counts the attendances of an event, over all its tracks, with the given role.
+     *
+     * @param eventId           the event identifier
+     * @param role              the role
+     * @param confirmation      the confirmation status of the attendances
+     * @return                  the number of attendances.
+     */
+    long countByEventIdAndRoleAndConfirmation(Long eventId, Role role, Confirmation confirmation);
+
+    /**
+     * Looks up the version of an attendance without loading it.
+     *
+     * @param id the id of the attendance
+     * @return the version, or empty if no such attendance exists
+     */
+    @Query("SELECT a.version FROM Attendee a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Looks up the event of an attendance without loading it.
+     *
+     * @param id the id of the attendance
+     * @return the event id, or empty if no such attendance exists
+     */
+    @Query("SELECT a.event.id FROM Attendee a WHERE a.id = :id")
+    Optional<Long> findEventIdById(@Param("id") Long id);
+
+    /**
+     * Looks up the attendances of an event, those of its tracks included, without loading them.
+     *
+     * @param eventId the id of the event
+     * @return the identifiers of the attendances and of their users
+     */
+    @Query("SELECT a.id AS id, a.user.id AS userId FROM Attendee a WHERE a.event.id = :eventId")
+    List<AttendanceKey> findKeysByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Deletes the attendances of an event, those of its tracks included, in a single statement
+     * without loading them.
+     *
+     * @param eventId the id of the event
+     * @return the number of deleted attendances
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Attendee a WHERE a.event.id = :eventId")
+    int deleteAllByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * The identifiers of an attendance and of its user.
+     */
+    interface AttendanceKey {
+        Long getId();
+
+        Long getUserId();
+    }
 }
@@ -0,0 +1,89 @@
+package nl.tudelft.sem.template.domain.attendee;
+
+import java.util.Collection;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * The criteria attendances can be listed on.
+ * <p>
+ * As with the event criteria, every criterion is null when its argument is not supplied, so that
+ * a listing only filters on the columns it was given.
+ * </p>
+ */
+public final class AttendeeSpecifications {
+
+    private static final String ID = "id";
+
+    private AttendeeSpecifications() {
+    }
+
+    /**
+     * Combines the criteria of a page of confirmed attendances.
+     *
+     * @param eventId   only attendances of this event, or null
+     * @param trackId   only attendances of this track, or null
+     * @param roles     only attendances with one of these roles
+     * @param after     only attendances with a greater identifier, or null for the first page
+     * @return the combined criteria.
+     */
+    public static Specification<Attendee> confirmedPage(Long eventId, Long trackId, Collection<Role> roles,
+                                                       Long after) {
+        return Specification.where(ofEvent(eventId))
+                .and(ofTrack(trackId))
+                .and(confirmed())
+                .and(withRoleIn(roles))
+                .and(after(after));
+    }
+
+    /**
+     * Matches the attendances of the given event.
+     *
+     * @param eventId the event identifier, or null to match all attendances
+     * @return the criterion, or null if no event is given.
+     */
+    public static Specification<Attendee> ofEvent(Long eventId) {
+        return eventId == null ? null
+                : (root, query, builder) -> builder.equal(root.get("event").get(ID), eventId);
+    }
+
+    /**
+     * Matches the attendances of the given track.
+     *
+     * @param trackId the track identifier, or null to match all attendances
+     * @return the criterion, or null if no track is given.
+     */
+    public static Specification<Attendee> ofTrack(Long trackId) {
+        return trackId == null ? null
+                : (root, query, builder) -> builder.equal(root.get("track").get(ID), trackId);
+    }
+
+    /**
+     * Matches the confirmed attendances.
+     *
+     * @return the criterion.
+     */
+    public static Specification<Attendee> confirmed() {
+        return (root, query, builder) -> builder.equal(root.get("confirmation"), new Confirmation(true));
+    }
+
+    /**
+     * Matches the attendances with one of the given roles.
+     *
+     * @param roles the roles
+     * @return the criterion.
+     */
+    public static Specification<Attendee> withRoleIn(Collection<Role> roles) {
+        return (root, query, builder) -> root.get("role").in(roles);
+    }
+
+    /**
+     * Matches the attendances following the given cursor.
+     *
+     * @param after the identifier of the last attendance of the previous page, or null
+     * @return the criterion, or null if no cursor is given.
+     */
+    public static Specification<Attendee> after(Long after) {
+        return after == null ? null
+                : (root, query, builder) -> builder.greaterThan(root.<Long>get(ID), after);
+    }
+}
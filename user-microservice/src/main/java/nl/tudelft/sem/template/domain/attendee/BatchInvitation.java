@@ -0,0 +1,37 @@
+package nl.tudelft.sem.template.domain.attendee;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import nl.tudelft.sem.template.enums.InvitationOutcome;
+import nl.tudelft.sem.template.model.InvitationResult;
+
+/**
+ * A DDD value object representing the outcome of inviting a single user within a batch.
+ */
+@Getter
+@AllArgsConstructor
+public class BatchInvitation {
+
+    private final transient Long userId;
+
+    private final transient InvitationOutcome outcome;
+
+    // The created invitation; null unless the user was invited.
+    private final transient Attendee invitation;
+
+    /**
+     * A converter from the Domain representation to the API Model representation.
+     *
+     * @return An API model InvitationResult instance.
+     */
+    public InvitationResult toModel() {
+        InvitationResult model = new InvitationResult();
+        model.setUserId(this.userId);
+        model.setStatus(InvitationResult.StatusEnum.valueOf(this.outcome.name()));
+        if (this.invitation != null) {
+            model.setInvitation(this.invitation.toInvitationModel());
+        }
+
+        return model;
+    }
+}
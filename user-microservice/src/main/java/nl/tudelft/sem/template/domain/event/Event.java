@@ -1,6 +1,7 @@
 package nl.tudelft.sem.template.domain.event;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import javax.persistence.CascadeType;
@@ -12,7 +13,9 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -39,9 +42,14 @@ public class Event extends HasEvents {
      */
     @Id
     @Column(name = "id", nullable = false, unique = true)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Column(name = "start_date", nullable = false)
     @NonNull
     @Convert(converter = LocalDateConverter.class)
@@ -62,15 +70,16 @@ public class Event extends HasEvents {
     @Convert(converter = EventNameAttributeConverter.class)
     private EventName name;
 
-    @Column(name = "description", nullable = false)
+    @Column(name = "description", nullable = true)
     @Convert(converter = EventDescriptionAttributeConverter.class)
     private EventDescription description;
 
+    // Never null, so that merging a detached event does not dereference the collections it owns
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Track> tracks;
+    private List<Track> tracks = new ArrayList<>();
 
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Attendee> attendees;
+    private List<Attendee> attendees = new ArrayList<>();
 
     public Event(Long id) {
         this.id = id;
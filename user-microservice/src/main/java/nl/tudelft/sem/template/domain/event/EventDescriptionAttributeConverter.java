@@ -9,7 +9,7 @@ public class EventDescriptionAttributeConverter implements AttributeConverter<Ev
 
     @Override
     public String convertToDatabaseColumn(EventDescription attribute) {
-        return attribute.toString();
+        return attribute == null ? null : attribute.toString();
     }
 
     @Override
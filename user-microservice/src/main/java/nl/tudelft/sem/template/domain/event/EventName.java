@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
  */
 @EqualsAndHashCode
 public class EventName {
+    @EqualsAndHashCode.Include
     private final transient String eventNameValue;
 
     public EventName(String eventName) {
@@ -2,12 +2,16 @@ package nl.tudelft.sem.template.domain.event;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
     @Override
     List<Event> findAll();
@@ -21,27 +25,43 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     // List<Event> findAllByUserId(Long id);
 
-    // Unfortunately a custom query is unavoidable here :(
-    @Query("SELECT e"
-            + " FROM Event e"
-            + " WHERE (:startBefore IS NULL"
-            + "        OR e.startDate < :startBefore)"
-            + "   AND (:startAfter IS NULL"
-            + "        OR e.startDate > :startAfter)"
-            + "   AND (:endBefore IS NULL"
-            + "        OR e.endDate < :endBefore)"
-            + "   AND (:endAfter IS NULL"
-            + "        OR e.endDate > :endAfter)"
-            + "   AND (:cancelled IS NULL"
-            + "        OR e.isCancelled = :cancelled)"
-            + "   AND (:name IS NULL"
-            + "        OR e.name = :name)")
-    List<Event> findByOptionalParams(LocalDate startBefore,
+    /**
+     * Finds the events matching the supplied criteria; null criteria, or criteria wrapping null,
+     * are ignored. See {@link EventSpecifications} for searches that are sorted or paged.
+     *
+     * @return the matching events.
+     */
+    default List<Event> findByOptionalParams(LocalDate startBefore,
             LocalDate startAfter,
             LocalDate endBefore,
             LocalDate endAfter,
             IsCancelled cancelled,
-            EventName name);
+            EventName name) {
+        return findAll(EventSpecifications.matching(startBefore, startAfter, endBefore, endAfter,
+                cancelled == null ? null : cancelled.getCancelStatus(),
+                name == null ? null : name.toString()));
+    }
 
     boolean existsById(Long id);
+
+    /**
+     * Looks up the version of an event without loading it.
+     *
+     * @param id the id of the event
+     * @return the version, or empty if no such event exists
+     */
+    @Query("SELECT e.version FROM Event e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Deletes an event in a single statement, without loading it or cascading to its tracks and
+     * attendances, which have to be deleted first. The persistence context is cleared afterwards,
+     * so that no removed entity is flushed again.
+     *
+     * @param id the id of the event
+     * @return the number of deleted events
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
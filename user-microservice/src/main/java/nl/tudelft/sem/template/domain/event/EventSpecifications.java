@@ -0,0 +1,121 @@
+package nl.tudelft.sem.template.domain.event;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * The criteria events can be searched on.
+ * <p>
+ * Every criterion is null when its argument is not supplied, and combining null criteria adds no
+ * predicate at all. A search therefore only filters on the columns it was given, and the database
+ * can use the index of any of them instead of scanning the whole table.
+ * </p>
+ */
+public final class EventSpecifications {
+
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+
+    private EventSpecifications() {
+    }
+
+    /**
+     * Combines the criteria of an event search.
+     *
+     * @param startBefore only events starting before this date, or null
+     * @param startAfter  only events starting after this date, or null
+     * @param endBefore   only events ending before this date, or null
+     * @param endAfter    only events ending after this date, or null
+     * @param cancelled   only events with this cancellation status, or null
+     * @param name        only events with this name, or null
+     * @return the combined criteria.
+     */
+    public static Specification<Event> matching(LocalDate startBefore, LocalDate startAfter,
+                                                LocalDate endBefore, LocalDate endAfter,
+                                                Boolean cancelled, String name) {
+        return Specification.where(startsBefore(startBefore))
+                .and(startsAfter(startAfter))
+                .and(endsBefore(endBefore))
+                .and(endsAfter(endAfter))
+                .and(isCancelled(cancelled))
+                .and(named(name));
+    }
+
+    /**
+     * Matches the events starting before the given date.
+     *
+     * @param date the date, or null to match all events
+     * @return the criterion, or null if no date is given.
+     */
+    public static Specification<Event> startsBefore(LocalDate date) {
+        return date == null ? null
+                : (root, query, builder) -> builder.lessThan(root.<LocalDate>get(START_DATE), date);
+    }
+
+    /**
+     * Matches the events starting after the given date.
+     *
+     * @param date the date, or null to match all events
+     * @return the criterion, or null if no date is given.
+     */
+    public static Specification<Event> startsAfter(LocalDate date) {
+        return date == null ? null
+                : (root, query, builder) -> builder.greaterThan(root.<LocalDate>get(START_DATE), date);
+    }
+
+    /**
+     * Matches the events ending before the given date.
+     *
+     * @param date the date, or null to match all events
+     * @return the criterion, or null if no date is given.
+     */
+    public static Specification<Event> endsBefore(LocalDate date) {
+        return date == null ? null
+                : (root, query, builder) -> builder.lessThan(root.<LocalDate>get(END_DATE), date);
+    }
+
+    /**
+     * Matches the events ending after the given date.
+     *
+     * @param date the date, or null to match all events
+     * @return the criterion, or null if no date is given.
+     */
+    public static Specification<Event> endsAfter(LocalDate date) {
+        return date == null ? null
+                : (root, query, builder) -> builder.greaterThan(root.<LocalDate>get(END_DATE), date);
+    }
+
+    /**
+     * Matches the events with the given cancellation status.
+     *
+     * @param cancelled the status, or null to match all events
+     * @return the criterion, or null if no status is given.
+     */
+    public static Specification<Event> isCancelled(Boolean cancelled) {
+        return cancelled == null ? null
+                : (root, query, builder) -> builder.equal(root.get("isCancelled"), new IsCancelled(cancelled));
+    }
+
+    /**
+     * Matches the events with the given name.
+     *
+     * @param name the name, or null to match all events
+     * @return the criterion, or null if no name is given.
+     */
+    public static Specification<Event> named(String name) {
+        return name == null ? null
+                : (root, query, builder) -> builder.equal(root.get("name"), new EventName(name));
+    }
+
+    /**
+     * Matches the events with one of the given identifiers.
+     *
+     * @param ids the identifiers, or null to match all events
+     * @return the criterion, or null if no identifiers are given.
+     */
+    public static Specification<Event> identifiedBy(Collection<Long> ids) {
+        return ids == null ? null
+                : (root, query, builder) -> root.get("id").in(ids);
+    }
+}
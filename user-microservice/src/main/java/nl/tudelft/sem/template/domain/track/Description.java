@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
  */
 @EqualsAndHashCode
 public class Description {
+    @EqualsAndHashCode.Include
     private final transient String descriptionValue;
 
     public Description(String description) {
@@ -9,6 +9,7 @@ import nl.tudelft.sem.template.model.PaperType;
  */
 @EqualsAndHashCode
 public class PaperRequirement {
+    @EqualsAndHashCode.Include
     private final transient PaperType paperTypeValue;
 
     public PaperRequirement(PaperType paperType) {
@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
  */
 @EqualsAndHashCode
 public class Title {
+    @EqualsAndHashCode.Include
     private final transient String titleValue;
 
     public Title(String title) {
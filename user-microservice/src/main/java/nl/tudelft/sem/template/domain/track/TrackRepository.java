@@ -3,6 +3,9 @@ package nl.tudelft.sem.template.domain.track;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -68,4 +71,33 @@ public interface TrackRepository extends JpaRepository<Track, String> {
      * @return true if event with input title exist
      */
     boolean existsByTitle(Title title);
+
+    /**
+     * Looks up the version of a track without loading it.
+     *
+     * @param id the id of the track
+     * @return the version, or empty if no such track exists
+     */
+    @Query("SELECT t.version FROM Track t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Looks up the tracks of an event without loading them.
+     *
+     * @param eventId the id of the event
+     * @return the ids of the tracks of the event
+     */
+    @Query("SELECT t.id FROM Track t WHERE t.event.id = :eventId")
+    List<Long> findIdsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Deletes the tracks of an event in a single statement, without loading them. Their
+     * attendances have to be deleted first.
+     *
+     * @param eventId the id of the event
+     * @return the number of deleted tracks
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Track t WHERE t.event.id = :eventId")
+    int deleteAllByEventId(@Param("eventId") Long eventId);
 }
@@ -4,6 +4,7 @@ import lombok.EqualsAndHashCode;
 
 @EqualsAndHashCode
 public class Communication {
+    @EqualsAndHashCode.Include
     private final transient String userCommunication;
 
     public Communication(String userCommunication) {
@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
  */
 @EqualsAndHashCode
 public class Email {
+    @EqualsAndHashCode.Include
     private final transient String emailValue;
 
     public Email(String email) {
@@ -4,6 +4,7 @@ import lombok.EqualsAndHashCode;
 
 @EqualsAndHashCode
 public class Link {
+    @EqualsAndHashCode.Include
     private final transient String userLink;
 
     public Link(String userLink) {
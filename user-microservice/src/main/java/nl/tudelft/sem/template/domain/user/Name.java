@@ -4,6 +4,7 @@ import lombok.EqualsAndHashCode;
 
 @EqualsAndHashCode
 public class Name {
+    @EqualsAndHashCode.Include
     private final transient String userName;
 
     public Name(String userName) {
@@ -4,6 +4,7 @@ import lombok.EqualsAndHashCode;
 
 @EqualsAndHashCode
 public class UserAffiliation {
+    @EqualsAndHashCode.Include
     private final transient String affiliation;
 
     public UserAffiliation(String affiliation) {
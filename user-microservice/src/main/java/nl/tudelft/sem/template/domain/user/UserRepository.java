@@ -3,6 +3,8 @@ package nl.tudelft.sem.template.domain.user;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -44,4 +46,13 @@ public interface UserRepository extends JpaRepository<AppUser, Long> {
      * @return true if User exists
      */
     boolean existsByEmail(Email email);
+
+    /**
+     * Looks up the version of a user without loading it.
+     *
+     * @param id the id of the user
+     * @return the version, or empty if no such user exists
+     */
+    @Query("SELECT u.version FROM AppUser u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
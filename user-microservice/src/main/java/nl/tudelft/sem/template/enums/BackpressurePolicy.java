@@ -0,0 +1,7 @@
+package nl.tudelft.sem.template.enums;
+
+public enum BackpressurePolicy {
+    BLOCK,
+    DROP,
+    SAMPLE
+}
@@ -0,0 +1,7 @@
+package nl.tudelft.sem.template.enums;
+
+public enum InvitationOutcome {
+    INVITED,
+    ALREADY_EXISTS,
+    UNKNOWN_USER
+}
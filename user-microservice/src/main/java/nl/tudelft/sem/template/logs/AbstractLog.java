@@ -0,0 +1,56 @@
+package nl.tudelft.sem.template.logs;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Base class of the ```Log``` implementations.
+ * <p>
+ * Every log captures its own creation time as a pair of raw clock readings, which are only turned
+ * into date objects when requested. The summary is rendered on its first read and kept from then on.
+ * </p>
+ */
+public abstract class AbstractLog implements Log {
+
+    private final transient long logMillis = System.currentTimeMillis();
+
+    private final transient long logNanos = System.nanoTime();
+
+    private transient String logSummary;
+
+    @Override
+    public Instant getLogInstant() {
+        return Instant.ofEpochMilli(logMillis);
+    }
+
+    @Override
+    public LocalDateTime getLogTime() {
+        return LocalDateTime.ofInstant(getLogInstant(), ZoneId.systemDefault());
+    }
+
+    @Override
+    public long getLogNanos() {
+        return logNanos;
+    }
+
+    @Override
+    public String getLogSummary() {
+        String summary = logSummary;
+        if (summary == null) {
+            summary = renderSummary();
+            // a summary rendered before the subject was saved would keep its missing id
+            if (getSubjectId() != null) {
+                logSummary = summary;
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Renders the human-readable summary of the log.
+     *
+     * @return A human-readable summary.
+     */
+    protected abstract String renderSummary();
+}
@@ -1,6 +1,9 @@
 package nl.tudelft.sem.template.logs;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
 import nl.tudelft.sem.template.enums.LogKind;
 import nl.tudelft.sem.template.enums.LogType;
 
@@ -12,7 +15,6 @@ import nl.tudelft.sem.template.enums.LogType;
  * @param <T> the type of the subject of the log.
  */
 public interface Log {
-    LocalDateTime logDate = LocalDateTime.now();
 
     /**
      * Returns the type of the subject of the log.
@@ -28,6 +30,40 @@ public interface Log {
      */
     public LogKind getLogKind();
 
+    /**
+     * Returns the id of the subject of the log.
+     *
+     * @return the id of the subject.
+     */
+    public Long getSubjectId();
+
+    /**
+     * Returns the id of the event the subject of the log belongs to.
+     *
+     * @return the id of the event, or null when the subject does not belong to an event.
+     */
+    default Long getEventId() {
+        return null;
+    }
+
+    /**
+     * Returns the id of the user the subject of the log belongs to.
+     *
+     * @return the id of the user, or null when the subject does not belong to a user.
+     */
+    default Long getUserId() {
+        return null;
+    }
+
+    /**
+     * Returns the fields changed by the operation represented by the log, mapped to their new value.
+     *
+     * @return the changed fields, empty when the log does not represent a modification.
+     */
+    default Map<String, String> getChangedFields() {
+        return Collections.emptyMap();
+    }
+
     /**
      * A human-readable summary outlining the contents of the log.
      *
@@ -40,7 +76,21 @@ public interface Log {
      *
      * @return the creation time.
      */
-    default LocalDateTime getLogTime() {
-        return this.logDate;
-    }
+    public LocalDateTime getLogTime();
+
+    /**
+     * Returns the creation time of the ```Log``` object as an instant on the time-line.
+     *
+     * @return the creation time.
+     */
+    public Instant getLogInstant();
+
+    /**
+     * Returns the monotonic creation time of the ```Log``` object in nanoseconds. It is only
+     * comparable with that of other logs created by the same JVM, but orders logs created within
+     * the same millisecond.
+     *
+     * @return the monotonic creation time.
+     */
+    public long getLogNanos();
 }
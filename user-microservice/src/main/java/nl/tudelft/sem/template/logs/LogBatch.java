@@ -0,0 +1,32 @@
+package nl.tudelft.sem.template.logs;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * ```Log```s published together as a single domain event.
+ * <p>
+ * A bulk operation that changes many subjects at once, such as the deletion of an event with its
+ * tracks and attendances, still logs every subject it changes. Publishing the logs as one batch
+ * lets the listeners take all of them in a single call, rather than being called for each.
+ * </p>
+ */
+public class LogBatch implements Iterable<Log> {
+
+    private final transient List<Log> logs;
+
+    /**
+     * Creates a new batch of logs.
+     *
+     * @param logs the logs, in the order they are recorded
+     */
+    public LogBatch(List<Log> logs) {
+        this.logs = Collections.unmodifiableList(logs);
+    }
+
+    @Override
+    public Iterator<Log> iterator() {
+        return logs.iterator();
+    }
+}
@@ -1,5 +1,7 @@
 package nl.tudelft.sem.template.logs;
 
+import java.util.EnumMap;
+import java.util.Map;
 import nl.tudelft.sem.template.enums.LogType;
 import nl.tudelft.sem.template.logs.attendee.AttendeeLogFactory;
 import nl.tudelft.sem.template.logs.event.EventLogFactory;
@@ -11,6 +13,14 @@ import nl.tudelft.sem.template.logs.user.UserLogFactory;
  */
 public abstract class LogFactory {
 
+    // The factories are stateless, so a single instance of each is shared.
+    private static final Map<LogType, LogFactory> FACTORIES = new EnumMap<>(LogType.class);
+
+    static {
+        for (LogType logType : LogType.values()) {
+            FACTORIES.put(logType, createFactory(logType));
+        }
+    }
 
     /**
      * Returns the corresponding factory based on subject type.
@@ -19,6 +29,10 @@ public abstract class LogFactory {
      * @return the corresponding LogFactory.
      */
     public static LogFactory loadFactory(LogType logType) {
+        return FACTORIES.get(logType);
+    }
+
+    private static LogFactory createFactory(LogType logType) {
         return switch (logType) {
             case USER -> new UserLogFactory();
             case EVENT -> new EventLogFactory();
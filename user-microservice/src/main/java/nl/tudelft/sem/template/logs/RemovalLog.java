@@ -0,0 +1,73 @@
+package nl.tudelft.sem.template.logs;
+
+import java.util.Locale;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+
+/**
+ * A ```Log``` representing the removal of a subject that was deleted in bulk.
+ * <p>
+ * Bulk deletions do not load the rows they delete, so unlike the other logs this one is built
+ * from identifiers rather than from its subject, and it is published directly instead of being
+ * recorded on an entity.
+ * </p>
+ */
+public class RemovalLog extends AbstractLog {
+
+    private final transient LogType logType;
+    private final transient Long subjectId;
+    private final transient Long eventId;
+    private final transient Long userId;
+
+    /**
+     * Creates a new removal log.
+     *
+     * @param logType   the type of the removed subject
+     * @param subjectId the id of the removed subject
+     * @param eventId   the id of the event the subject belonged to
+     * @param userId    the id of the user the subject belonged to, or null
+     */
+    public RemovalLog(LogType logType, Long subjectId, Long eventId, Long userId) {
+        this.logType = logType;
+        this.subjectId = subjectId;
+        this.eventId = eventId;
+        this.userId = userId;
+    }
+
+    @Override
+    public LogType getLogType() {
+        return logType;
+    }
+
+    @Override
+    public LogKind getLogKind() {
+        return LogKind.REMOVAL;
+    }
+
+    @Override
+    public Long getSubjectId() {
+        return subjectId;
+    }
+
+    @Override
+    public Long getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    protected String renderSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(logType.name().charAt(0));
+        sb.append(logType.name().substring(1).toLowerCase(Locale.ROOT));
+        sb.append(' ');
+        sb.append(subjectId);
+        sb.append(" has been successfully removed.\n");
+        sb.append(getLogTime().toString());
+        return sb.toString();
+    }
+}
@@ -2,12 +2,12 @@ package nl.tudelft.sem.template.logs.attendee;
 
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.enums.LogType;
-import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.AbstractLog;
 
 /**
  * The specific ```Log``` abstract class for the ```Attendee``` type.
  */
-public abstract class AttendeeLog implements Log {
+public abstract class AttendeeLog extends AbstractLog {
 
     transient Attendee subject;
 
@@ -15,4 +15,19 @@ public abstract class AttendeeLog implements Log {
     public final LogType getLogType() {
         return LogType.ATTENDEE;
     }
+
+    @Override
+    public Long getSubjectId() {
+        return subject.getId();
+    }
+
+    @Override
+    public Long getEventId() {
+        return subject.getEvent() == null ? null : subject.getEvent().getId();
+    }
+
+    @Override
+    public Long getUserId() {
+        return subject.getUser() == null ? null : subject.getUser().getId();
+    }
 }
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.attendee;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.enums.LogKind;
 
@@ -27,14 +28,19 @@ public class ConfirmationChangeAttendeeLog extends AttendeeLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("confirmation", String.valueOf(confirmed));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The confirmation status for Attendee ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(confirmed);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 
@@ -24,12 +24,12 @@ public class CreatedAttendeeLog extends AttendeeLog {
     }
 
     @Override
-    public String getLogSummary() {
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("Attendee ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully created!\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 
@@ -24,13 +24,13 @@ public class RemovedAttendeeLog extends AttendeeLog {
     }
 
     @Override
-    public String getLogSummary() {
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("Attendee ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully removed.\n");
         sb.append(".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 
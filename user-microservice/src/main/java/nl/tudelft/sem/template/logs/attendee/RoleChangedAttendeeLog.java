@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.attendee;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.enums.LogKind;
 import nl.tudelft.sem.template.enums.RoleTitle;
@@ -28,14 +29,19 @@ public class RoleChangedAttendeeLog extends AttendeeLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("role", roleTitle.name());
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The attendance role for Attendee ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(roleTitle.name());
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 
@@ -24,12 +24,12 @@ public class CreatedEventLog extends EventLog {
     }
 
     @Override
-    public String getLogSummary() {
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("Event ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully created!\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -1,6 +1,7 @@
 package nl.tudelft.sem.template.logs.event;
 
 import java.time.LocalDate;
+import java.util.Map;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.enums.LogKind;
 
@@ -28,14 +29,19 @@ public class EndDateChangedEventLog extends EventLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("endDate", String.valueOf(endDate));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The end date for Event ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(endDate);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
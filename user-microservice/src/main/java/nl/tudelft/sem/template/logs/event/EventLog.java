@@ -2,12 +2,12 @@ package nl.tudelft.sem.template.logs.event;
 
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.enums.LogType;
-import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.AbstractLog;
 
 /**
  * The specific ```Log``` abstract class for the ```Event``` type.
  */
-public abstract class EventLog implements Log {
+public abstract class EventLog extends AbstractLog {
 
     transient Event subject;
 
@@ -15,4 +15,23 @@ public abstract class EventLog implements Log {
     public final LogType getLogType() {
         return LogType.EVENT;
     }
+
+    /**
+     * Returns the event the log is about.
+     *
+     * @return the subject of the log.
+     */
+    public Event getSubject() {
+        return subject;
+    }
+
+    @Override
+    public Long getSubjectId() {
+        return subject.getId();
+    }
+
+    @Override
+    public Long getEventId() {
+        return subject.getId();
+    }
 }
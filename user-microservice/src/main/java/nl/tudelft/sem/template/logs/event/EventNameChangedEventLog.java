@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.event;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.EventName;
 import nl.tudelft.sem.template.enums.LogKind;
@@ -28,14 +29,19 @@ public class EventNameChangedEventLog extends EventLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("name", String.valueOf(eventName));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The name for Event ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(eventName);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.event;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.IsCancelled;
 import nl.tudelft.sem.template.enums.LogKind;
@@ -28,14 +29,19 @@ public class IsCancelledChangedEventLog extends EventLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("isCancelled", String.valueOf(isCancelled.getCancelStatus()));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The cancelled attribute for Event ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(isCancelled.getCancelStatus());
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -0,0 +1,22 @@
+package nl.tudelft.sem.template.logs.pipeline;
+
+import java.util.List;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the records to the application log, one line per record.
+ */
+public class ConsoleLogSink implements LogSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("audit");
+
+    @Override
+    public void write(List<LogRecord> batch) {
+        for (LogRecord record : batch) {
+            LOGGER.info("{} {} {} at {}: {}", record.getLogType(), record.getSubjectId(), record.getLogKind(),
+                    record.getTimestamp(), record.getChangedFields());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package nl.tudelft.sem.template.logs.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import nl.tudelft.sem.template.enums.BackpressurePolicy;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves log records off the request threads and writes them to the sinks in batches.
+ * <p>
+ * Any thread may publish into a bounded ring buffer. A single background consumer drains up to
+ * ```batchSize``` records at a time and hands them to every sink. When the buffer is full, the
+ * ```BackpressurePolicy``` applies:
+ * <ul>
+ *     <li>```BLOCK``` makes the publisher wait for space.</li>
+ *     <li>```DROP``` discards the record.</li>
+ *     <li>```SAMPLE``` makes one in ```sampleRate``` records wait for space and discards the rest.</li>
+ * </ul>
+ * The buffer depth is exported as ```logs.pipeline.queued```, discarded records as
+ * ```logs.pipeline.dropped``` and the batch sizes as ```logs.pipeline.batch```.
+ * </p>
+ */
+public class LogPipeline implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogPipeline.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final transient BlockingQueue<LogRecord> buffer;
+
+    private final transient int batchSize;
+
+    private final transient BackpressurePolicy policy;
+
+    private final transient int sampleRate;
+
+    private final transient List<LogSink> sinks;
+
+    private final transient Counter dropped;
+
+    private final transient DistributionSummary batches;
+
+    private final transient AtomicLong overflows = new AtomicLong();
+
+    private final transient AtomicLong published = new AtomicLong();
+
+    private final transient Thread consumer;
+
+    private transient long delivered;
+
+    private transient volatile boolean running = true;
+
+    /**
+     * Starts a new log pipeline.
+     *
+     * @param capacity      the number of records the buffer holds
+     * @param batchSize     the maximum number of records handed to the sinks at once
+     * @param policy        what to do with a record published while the buffer is full
+     * @param sampleRate    with ```SAMPLE```, the one in how many overflowing records that is kept
+     * @param sinks         the destinations of the records
+     * @param meterRegistry the registry the pipeline metrics are published to
+     */
+    public LogPipeline(int capacity, int batchSize, BackpressurePolicy policy, int sampleRate,
+                       List<LogSink> sinks, MeterRegistry meterRegistry) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+        this.sinks = List.copyOf(sinks);
+
+        meterRegistry.gaugeCollectionSize("logs.pipeline.queued", Tags.empty(), buffer);
+        this.dropped = meterRegistry.counter("logs.pipeline.dropped");
+        this.batches = meterRegistry.summary("logs.pipeline.batch");
+
+        this.consumer = new Thread(this::drain, "log-pipeline");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Publishes a record, applying the backpressure policy when the buffer is full.
+     *
+     * @param record the record to publish
+     */
+    public void publish(LogRecord record) {
+        if (buffer.offer(record)) {
+            published.incrementAndGet();
+            return;
+        }
+
+        boolean wait = switch (policy) {
+            case BLOCK -> true;
+            case DROP -> false;
+            case SAMPLE -> overflows.incrementAndGet() % sampleRate == 0;
+        };
+        if (!wait) {
+            dropped.increment();
+            return;
+        }
+
+        try {
+            buffer.put(record);
+            published.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Waits until every record published so far has been handed to the sinks.
+     *
+     * @param timeoutMs the maximum time to wait
+     * @return whether all records were delivered in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized boolean flush(long timeoutMs) throws InterruptedException {
+        long target = published.get();
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (delivered < target) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Stops the consumer once the buffered records have been delivered.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogRecord first = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                return;
+            }
+            buffer.drainTo(batch, batchSize - 1);
+
+            batches.record(batch.size());
+            for (LogSink sink : sinks) {
+                try {
+                    sink.write(batch);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Log sink {} failed to write {} records", sink, batch.size(), e);
+                }
+            }
+
+            synchronized (this) {
+                delivered += batch.size();
+                notifyAll();
+            }
+            batch.clear();
+        }
+    }
+}
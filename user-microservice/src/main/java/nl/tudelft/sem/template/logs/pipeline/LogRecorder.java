@@ -0,0 +1,45 @@
+package nl.tudelft.sem.template.logs.pipeline;
+
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.LogBatch;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hands the ```Log```s published by the repositories as domain events to the ```LogPipeline```.
+ */
+@Component
+public class LogRecorder {
+
+    private final transient LogPipeline logPipeline;
+
+    @Autowired
+    public LogRecorder(LogPipeline logPipeline) {
+        this.logPipeline = logPipeline;
+    }
+
+    /**
+     * Captures a log once the transaction that recorded it has committed. Writing it out is left
+     * to the pipeline, off the request thread.
+     *
+     * @param log the published log
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void record(Log log) {
+        logPipeline.publish(LogRecord.of(log));
+    }
+
+    /**
+     * Captures a batch of logs once the transaction that recorded them has committed.
+     *
+     * @param batch the published logs
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void recordAll(LogBatch batch) {
+        for (Log log : batch) {
+            logPipeline.publish(LogRecord.of(log));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package nl.tudelft.sem.template.logs.pipeline;
+
+import java.util.List;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+
+/**
+ * A destination of the records drained from the ```LogPipeline```.
+ */
+public interface LogSink {
+
+    /**
+     * Writes a batch of records, oldest first.
+     *
+     * @param batch the records to write.
+     */
+    public void write(List<LogRecord> batch);
+}
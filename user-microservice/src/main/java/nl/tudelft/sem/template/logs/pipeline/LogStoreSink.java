@@ -0,0 +1,22 @@
+package nl.tudelft.sem.template.logs.pipeline;
+
+import java.util.List;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import nl.tudelft.sem.template.logs.store.SegmentedLogStore;
+
+/**
+ * Appends the records to the durable audit log store.
+ */
+public class LogStoreSink implements LogSink {
+
+    private final transient SegmentedLogStore logStore;
+
+    public LogStoreSink(SegmentedLogStore logStore) {
+        this.logStore = logStore;
+    }
+
+    @Override
+    public void write(List<LogRecord> batch) {
+        batch.forEach(logStore::append);
+    }
+}
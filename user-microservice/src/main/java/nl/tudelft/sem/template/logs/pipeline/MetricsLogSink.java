@@ -0,0 +1,25 @@
+package nl.tudelft.sem.template.logs.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+
+/**
+ * Counts the records per subject type and kind of operation as ```logs.recorded{type,kind}```.
+ */
+public class MetricsLogSink implements LogSink {
+
+    private final transient MeterRegistry meterRegistry;
+
+    public MetricsLogSink(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void write(List<LogRecord> batch) {
+        for (LogRecord record : batch) {
+            meterRegistry.counter("logs.recorded",
+                    "type", record.getLogType().name(), "kind", record.getLogKind().name()).increment();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package nl.tudelft.sem.template.logs.store;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A page of the history of a subject.
+ */
+@Getter
+@AllArgsConstructor
+public class LogPage {
+
+    private final transient List<LogRecord> records;
+
+    // The cursor to pass for the next page; null when this page is not full.
+    private final transient Long nextCursor;
+}
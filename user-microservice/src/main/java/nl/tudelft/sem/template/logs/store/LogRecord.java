@@ -0,0 +1,99 @@
+package nl.tudelft.sem.template.logs.store;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.model.LogEntry;
+
+/**
+ * The persisted form of a ```Log```: what happened to which subject, when, and the new values of
+ * the changed fields. The event and the user the subject belongs to are kept as well, so that the
+ * history of a subject can be restricted to those it concerns, even once the subject is removed.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@SuppressWarnings("PMD.BeanMembersShouldSerialize")
+public class LogRecord {
+    /**
+     * Subject id stored for logs whose subject has no id (yet).
+     */
+    public static final long NO_SUBJECT = -1L;
+
+    private final LogType logType;
+
+    private final LogKind logKind;
+
+    private final long subjectId;
+
+    private final Long eventId;
+
+    private final Long userId;
+
+    private final Instant timestamp;
+
+    private final Map<String, String> changedFields;
+
+    /**
+     * Creates a new LogRecord.
+     *
+     * @param logType       the type of the subject of the log
+     * @param logKind       the kind of operation represented by the log
+     * @param subjectId     the id of the subject, or {@link #NO_SUBJECT}
+     * @param eventId       the id of the event the subject belongs to, or null
+     * @param userId        the id of the user the subject belongs to, or null
+     * @param timestamp     the creation time of the log
+     * @param changedFields the changed fields mapped to their new value
+     */
+    public LogRecord(LogType logType, LogKind logKind, long subjectId, Long eventId, Long userId,
+                     Instant timestamp, Map<String, String> changedFields) {
+        this.logType = logType;
+        this.logKind = logKind;
+        this.subjectId = subjectId;
+        this.eventId = eventId;
+        this.userId = userId;
+        this.timestamp = timestamp;
+        this.changedFields = Collections.unmodifiableMap(new LinkedHashMap<>(changedFields));
+    }
+
+    /**
+     * Captures a ```Log``` as a record.
+     *
+     * @param log the log to capture
+     * @return the record of the log
+     */
+    public static LogRecord of(Log log) {
+        Long subjectId = log.getSubjectId();
+        return new LogRecord(log.getLogType(), log.getLogKind(),
+                subjectId == null ? NO_SUBJECT : subjectId,
+                log.getEventId(),
+                log.getUserId(),
+                log.getLogInstant(),
+                log.getChangedFields());
+    }
+
+    /**
+     * A converter from the Domain representation to the API Model representation.
+     *
+     * @return An API model LogEntry instance.
+     */
+    public LogEntry toModel() {
+        LogEntry model = new LogEntry();
+        model.setLogType(LogEntry.LogTypeEnum.valueOf(this.logType.name()));
+        model.setLogKind(LogEntry.LogKindEnum.valueOf(this.logKind.name()));
+        model.setSubjectId(this.subjectId);
+        model.setTimestamp(OffsetDateTime.ofInstant(this.timestamp, ZoneOffset.UTC));
+        model.setChangedFields(new HashMap<>(this.changedFields));
+        return model;
+    }
+}
@@ -0,0 +1,418 @@
+package nl.tudelft.sem.template.logs.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+
+/**
+ * A durable, append-only store of ```LogRecord```s.
+ * <p>
+ * Records are appended to fixed-size, memory-mapped segment files. When a record does not fit in
+ * the active segment, a new segment is started. Each record is stored as
+ * ```[length][crc32][type][kind][subject id][timestamp][event id][user id][field count]```,
+ * where an absent event or user id is stored as -1, followed by a
+ * ```[name length][name][value length][value]``` entry for each changed field.
+ * An appended record is visible straight away and forced to disk in batches, after
+ * ```syncBatchSize``` records or every ```syncIntervalMs```, whichever comes first.
+ * When the store is opened, it scans the last segment and discards a torn or corrupt tail left by
+ * a crash.
+ * </p>
+ * <p>
+ * Every segment stays mapped. An in-memory index maps each subject to the locations of its records,
+ * so looking up the history of one subject never scans the logs of the others.
+ * </p>
+ */
+public class SegmentedLogStore implements Closeable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    // length and checksum
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    // type, kind, subject id, timestamp, event id, user id and field count
+    private static final int FIXED_BODY_SIZE = 2 * Byte.BYTES + 4 * Long.BYTES + Short.BYTES;
+    // the stored event or user id of a record without one
+    private static final long NO_ID = -1L;
+    // offsets of the kind and the timestamp from the start of a record
+    private static final int KIND_OFFSET = HEADER_SIZE + Byte.BYTES;
+    private static final int TIMESTAMP_OFFSET = HEADER_SIZE + 2 * Byte.BYTES + Long.BYTES;
+
+    private final transient Path directory;
+
+    private final transient int segmentSize;
+
+    private final transient int syncBatchSize;
+
+    private final transient ScheduledExecutorService syncScheduler;
+
+    private transient int segmentIndex;
+
+    private transient FileChannel channel;
+
+    private transient MappedByteBuffer segment;
+
+    // every segment, oldest first; the last one is the active segment
+    private final transient List<ByteBuffer> segments = new ArrayList<>();
+
+    private final transient Map<LogType, Map<Long, Locations>> index = new EnumMap<>(LogType.class);
+
+    private transient int syncedPosition;
+
+    private transient int unsyncedRecords;
+
+    /**
+     * Opens the store in the given directory, recovering the segments already present.
+     *
+     * @param directory      the directory holding the segment files
+     * @param segmentSize    the size in bytes of a segment file
+     * @param syncBatchSize  the number of appended records after which the segment is forced to disk
+     * @param syncIntervalMs the interval at which appended records are forced to disk, 0 to disable
+     * @throws IOException if the directory or the segments cannot be opened
+     */
+    public SegmentedLogStore(Path directory, int segmentSize, int syncBatchSize, long syncIntervalMs)
+            throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncBatchSize = syncBatchSize;
+
+        for (LogType logType : LogType.values()) {
+            index.put(logType, new HashMap<>());
+        }
+
+        Files.createDirectories(directory);
+        List<Path> existing = listSegments();
+        for (Path path : existing.subList(0, Math.max(0, existing.size() - 1))) {
+            try (FileChannel sealed = FileChannel.open(path, StandardOpenOption.READ)) {
+                segments.add(sealed.map(FileChannel.MapMode.READ_ONLY, 0, sealed.size()));
+            }
+            indexSegment(segments.size() - 1);
+        }
+        if (existing.isEmpty()) {
+            openSegment(0);
+        } else {
+            openSegment(segmentIndexOf(existing.get(existing.size() - 1)));
+            recover();
+        }
+
+        if (syncIntervalMs > 0) {
+            this.syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "log-store-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncScheduler.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncScheduler = null;
+        }
+    }
+
+    /**
+     * Appends a record to the store.
+     *
+     * @param record the record to append
+     * @throws IllegalArgumentException if the record is larger than a segment
+     */
+    public synchronized void append(LogRecord record) {
+        byte[] body = encode(record);
+        int size = HEADER_SIZE + body.length;
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("A log record of " + size + " bytes does not fit in a segment");
+        }
+        if (segment.remaining() < size) {
+            roll();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        int position = segment.position();
+        segment.putInt(body.length).putInt((int) crc.getValue()).put(body);
+        addToIndex(record.getLogType(), record.getSubjectId(), segments.size() - 1, position);
+
+        if (++unsyncedRecords >= syncBatchSize) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces the records appended since the last sync to disk.
+     */
+    public synchronized void sync() {
+        int position = segment.position();
+        if (position > syncedPosition) {
+            segment.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+        unsyncedRecords = 0;
+    }
+
+    /**
+     * Passes every stored record, oldest first, to the consumer.
+     *
+     * @param consumer the consumer of the records
+     */
+    public synchronized void forEach(Consumer<LogRecord> consumer) {
+        for (ByteBuffer buffer : segments) {
+            int position = 0;
+            for (int end = recordEnd(buffer, position); end > 0; end = recordEnd(buffer, position)) {
+                consumer.accept(decode(buffer, position, end));
+                position = end;
+            }
+        }
+    }
+
+    /**
+     * Looks up a page of the history of a single subject, oldest first.
+     *
+     * @param logType   the type of the subject
+     * @param subjectId the id of the subject
+     * @param logKind   the kind of operation to filter on, or null for all kinds
+     * @param from      the inclusive lower bound of the creation time, or null
+     * @param to        the exclusive upper bound of the creation time, or null
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param limit     the maximum number of records in the page
+     * @return the page of matching records
+     */
+    public synchronized LogPage history(LogType logType, long subjectId, LogKind logKind,
+                                        Instant from, Instant to, Long after, int limit) {
+        Locations locations = index.get(logType).get(subjectId);
+        List<LogRecord> records = new ArrayList<>();
+        if (locations == null) {
+            return new LogPage(records, null);
+        }
+
+        long cursor = -1;
+        int first = after == null ? 0 : locations.firstAfter(after);
+        for (int i = first; i < locations.size() && records.size() < limit; i++) {
+            long location = locations.get(i);
+            ByteBuffer buffer = segments.get((int) (location >>> Integer.SIZE));
+            int position = (int) location;
+
+            // filter on the fixed fields before decoding the whole record
+            long timestamp = buffer.getLong(position + TIMESTAMP_OFFSET);
+            if ((logKind != null && buffer.get(position + KIND_OFFSET) != logKind.ordinal())
+                    || (from != null && timestamp < from.toEpochMilli())
+                    || (to != null && timestamp >= to.toEpochMilli())) {
+                continue;
+            }
+            records.add(decode(buffer, position, recordEnd(buffer, position)));
+            cursor = location;
+        }
+        return new LogPage(records, records.size() == limit ? cursor : null);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        sync();
+        channel.close();
+    }
+
+    /**
+     * Seal the active segment and continue in a new one.
+     */
+    private void roll() {
+        sync();
+        try {
+            channel.close();
+            openSegment(segmentIndex + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSegment(int number) throws IOException {
+        Path path = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size() == 0 ? segmentSize : channel.size();
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        segments.add(segment);
+        segmentIndex = number;
+        syncedPosition = 0;
+        unsyncedRecords = 0;
+    }
+
+    /**
+     * Move the write position past the last intact record of the active segment and clear whatever
+     * a crash left behind it.
+     */
+    private void recover() {
+        int position = indexSegment(segments.size() - 1);
+
+        if (position + Integer.BYTES <= segment.capacity() && segment.getInt(position) != 0) {
+            for (int i = position; i < segment.capacity(); i++) {
+                segment.put(i, (byte) 0);
+            }
+            segment.force();
+        }
+        segment.position(position);
+        syncedPosition = position;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static int segmentIndexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Index the records of a segment up to the first empty, torn or corrupt one.
+     *
+     * @return the position right after the last intact record
+     */
+    private int indexSegment(int segmentPosition) {
+        ByteBuffer buffer = segments.get(segmentPosition);
+        int position = 0;
+        for (int end = recordEnd(buffer, position); end > 0; end = recordEnd(buffer, position)) {
+            LogType logType = LogType.values()[buffer.get(position + HEADER_SIZE)];
+            addToIndex(logType, buffer.getLong(position + KIND_OFFSET + Byte.BYTES), segmentPosition, position);
+            position = end;
+        }
+        return position;
+    }
+
+    private void addToIndex(LogType logType, long subjectId, int segmentPosition, int position) {
+        index.get(logType).computeIfAbsent(subjectId, id -> new Locations())
+                .add(((long) segmentPosition << Integer.SIZE) | position);
+    }
+
+    /**
+     * Validate the record starting at the given position.
+     *
+     * @return the position right after the record, or -1 if there is no intact record there
+     */
+    private static int recordEnd(ByteBuffer buffer, int position) {
+        if (position + HEADER_SIZE > buffer.limit()) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length < FIXED_BODY_SIZE || length > buffer.limit() - position - HEADER_SIZE) {
+            return -1;
+        }
+
+        ByteBuffer body = buffer.duplicate();
+        body.position(position + HEADER_SIZE);
+        body.limit(position + HEADER_SIZE + length);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+            return -1;
+        }
+        return position + HEADER_SIZE + length;
+    }
+
+    private static byte[] encode(LogRecord record) {
+        List<byte[]> fields = new ArrayList<>();
+        int size = FIXED_BODY_SIZE;
+        for (Map.Entry<String, String> field : record.getChangedFields().entrySet()) {
+            byte[] name = field.getKey().getBytes(StandardCharsets.UTF_8);
+            byte[] value = field.getValue().getBytes(StandardCharsets.UTF_8);
+            fields.add(name);
+            fields.add(value);
+            size += Short.BYTES + name.length + Integer.BYTES + value.length;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(size)
+                .put((byte) record.getLogType().ordinal())
+                .put((byte) record.getLogKind().ordinal())
+                .putLong(record.getSubjectId())
+                .putLong(record.getTimestamp().toEpochMilli())
+                .putLong(record.getEventId() == null ? NO_ID : record.getEventId())
+                .putLong(record.getUserId() == null ? NO_ID : record.getUserId())
+                .putShort((short) record.getChangedFields().size());
+        for (int i = 0; i < fields.size(); i += 2) {
+            body.putShort((short) fields.get(i).length).put(fields.get(i));
+            body.putInt(fields.get(i + 1).length).put(fields.get(i + 1));
+        }
+        return body.array();
+    }
+
+    private static LogRecord decode(ByteBuffer buffer, int position, int end) {
+        ByteBuffer body = buffer.duplicate();
+        body.position(position + HEADER_SIZE);
+        body.limit(end);
+
+        LogType logType = LogType.values()[body.get()];
+        LogKind logKind = LogKind.values()[body.get()];
+        long subjectId = body.getLong();
+        Instant timestamp = Instant.ofEpochMilli(body.getLong());
+        long eventId = body.getLong();
+        long userId = body.getLong();
+
+        int fieldCount = body.getShort();
+        Map<String, String> changedFields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            byte[] name = new byte[body.getShort()];
+            body.get(name);
+            byte[] value = new byte[body.getInt()];
+            body.get(value);
+            changedFields.put(new String(name, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8));
+        }
+        return new LogRecord(logType, logKind, subjectId, eventId == NO_ID ? null : eventId,
+                userId == NO_ID ? null : userId, timestamp, changedFields);
+    }
+
+    /**
+     * The ascending locations of the records of a single subject.
+     */
+    private static final class Locations {
+        private transient long[] values = new long[4];
+
+        private transient int size;
+
+        void add(long location) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = location;
+        }
+
+        long get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the position of the first location greater than the given one.
+         */
+        int firstAfter(long location) {
+            int found = Arrays.binarySearch(values, 0, size, location);
+            return found >= 0 ? found + 1 : -found - 1;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package nl.tudelft.sem.template.logs.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.LogBatch;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes every committed change to the subscribed clients as server-sent events.
+ * <p>
+ * Each change gets an increasing id and is kept in a replay buffer of the ```replaySize``` most
+ * recent changes, from which a reconnecting client is served the changes after its last event
+ * id. Changes concerning a user are only sent to that user.
+ * </p>
+ * <p>
+ * Every subscriber has its own buffer of ```bufferSize``` pending changes, which is drained by
+ * a sender thread of its own while it has changes pending, so that a slow client only holds back
+ * itself. A subscriber that falls so far behind that its buffer overflows is disconnected, so it
+ * can resume from the replay buffer. A heartbeat comment is sent every ```heartbeatMs```; a
+ * subscriber whose write has not returned by the next heartbeat is dropped as well, and its
+ * stream is completed once the write returns.
+ * </p>
+ * <p>
+ * The number of open streams is exported as ```changes.subscribers```, the subscribers
+ * disconnected for overflowing as ```changes.overflows``` and those dropped for blocking as
+ * ```changes.stalls```.
+ * </p>
+ */
+public class ChangeStream implements DisposableBean {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final transient int bufferSize;
+
+    private final transient int replaySize;
+
+    private final transient long timeoutMs;
+
+    private final transient long heartbeatNanos;
+
+    private final transient Deque<Change> replay = new ArrayDeque<>();
+
+    private final transient Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+    private final transient ScheduledExecutorService heartbeats;
+
+    private final transient ExecutorService senders;
+
+    private final transient Counter overflows;
+
+    private final transient Counter stalls;
+
+    private transient long sequence;
+
+    /**
+     * Starts a new change stream.
+     *
+     * @param bufferSize    the number of pending changes each subscriber may have
+     * @param replaySize    the number of recent changes kept for reconnecting subscribers
+     * @param heartbeatMs   the interval between heartbeats
+     * @param timeoutMs     the time after which a stream is closed, so that the client reconnects
+     * @param meterRegistry the registry the stream metrics are published to
+     */
+    public ChangeStream(int bufferSize, int replaySize, long heartbeatMs, long timeoutMs,
+                        MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMs = timeoutMs;
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+        this.overflows = meterRegistry.counter("changes.overflows");
+        this.stalls = meterRegistry.counter("changes.stalls");
+        meterRegistry.gaugeCollectionSize("changes.subscribers", Tags.empty(), subscribers);
+
+        // Idle sender threads are released, so there are only as many as subscribers being written to
+        this.senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Captures a log once the transaction that recorded it has committed, and queues it for the
+     * subscribers it concerns.
+     *
+     * @param log the published log
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(Log log) {
+        synchronized (replay) {
+            append(log);
+        }
+    }
+
+    /**
+     * Captures a batch of logs once the transaction that recorded them has committed, and queues
+     * them for the subscribers they concern in one go.
+     *
+     * @param batch the published logs
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publishAll(LogBatch batch) {
+        synchronized (replay) {
+            for (Log log : batch) {
+                append(log);
+            }
+        }
+    }
+
+    /**
+     * Numbers a change, keeps it for replay and queues it for its subscribers; the caller holds
+     * the lock on the replay buffer.
+     */
+    private void append(Log log) {
+        Change change = new Change(++sequence, LogRecord.of(log), log.getEventId(), log.getUserId());
+        if (replay.size() == replaySize) {
+            replay.removeFirst();
+        }
+        replay.addLast(change);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(change)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Opens a new stream of changes.
+     *
+     * @param eventId     only send the changes concerning this event, or null for all events
+     * @param userId      only send the changes concerning this user, or null for all users
+     * @param requesterId the user subscribing, the only user whose changes may be sent
+     * @param lastEventId the id of the last change the client received, or null for a new client
+     * @return the emitter of the stream
+     */
+    public SseEmitter subscribe(Long eventId, Long userId, Long requesterId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        subscribe(emitter, eventId, userId, requesterId, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Streams the changes to the given emitter.
+     *
+     * @param emitter     the emitter of the stream
+     * @param eventId     only send the changes concerning this event, or null for all events
+     * @param userId      only send the changes concerning this user, or null for all users
+     * @param requesterId the user subscribing, the only user whose changes may be sent
+     * @param lastEventId the id of the last change the client received, or null for a new client
+     */
+    public void subscribe(SseEmitter emitter, Long eventId, Long userId, Long requesterId, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, eventId, userId, requesterId, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (replay) {
+            // ids restart with the application, so a larger last event id cannot be resumed from
+            if (lastEventId != null && lastEventId <= sequence) {
+                for (Change change : replay) {
+                    if (change.id > lastEventId) {
+                        subscriber.offer(change);
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+    }
+
+    /**
+     * Returns the number of open streams.
+     *
+     * @return the number of subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Starts a sender for the subscriber, unless one is already draining it.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (!senders.isShutdown() && subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending changes and heartbeat of a subscriber. Only runs on a sender thread, and
+     * on one at a time for each subscriber, so its changes are written in order.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (subscribers.contains(subscriber) && subscriber.hasWork()) {
+                if (subscriber.overflowed) {
+                    overflows.increment();
+                    subscribers.remove(subscriber);
+                    break;
+                }
+                Change change = subscriber.pending.poll();
+                if (change != null) {
+                    send(subscriber, SseEmitter.event()
+                            .id(String.valueOf(change.id))
+                            .name(change.record.getLogType().name().toLowerCase(Locale.ROOT))
+                            .data(change.record.toModel()));
+                } else if (subscriber.heartbeatDue) {
+                    subscriber.heartbeatDue = false;
+                    send(subscriber, SseEmitter.event().comment(HEARTBEAT));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        if (!subscribers.contains(subscriber)) {
+            // Dropped while writing, or by a heartbeat while the write blocked
+            subscriber.emitter.complete();
+        } else if (subscriber.hasWork()) {
+            // Work queued after the last check, while this sender was still scheduled
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendingSince = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+    }
+
+    /**
+     * Drops the subscribers whose write has blocked since the last heartbeat, and queues a
+     * heartbeat comment for the others. Only runs on the heartbeat thread, which never writes
+     * itself, so a blocked client cannot delay it.
+     */
+    private void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since >= heartbeatNanos) {
+                // The emitter is locked by the blocked write, so its sender completes it afterwards
+                stalls.increment();
+                subscribers.remove(subscriber);
+                // Unless the write returned meanwhile, in which case a new sender completes it
+                schedule(subscriber);
+            } else {
+                subscriber.heartbeatDue = true;
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * A change numbered in the order of publication, with the event and user it concerns.
+     */
+    @SuppressWarnings("PMD.BeanMembersShouldSerialize")
+    private static final class Change {
+        private final long id;
+        private final LogRecord record;
+        private final Long eventId;
+        private final Long userId;
+
+        private Change(long id, LogRecord record, Long eventId, Long userId) {
+            this.id = id;
+            this.record = record;
+            this.eventId = eventId;
+            this.userId = userId;
+        }
+    }
+
+    /**
+     * An open stream with its filters and buffer of pending changes.
+     */
+    @SuppressWarnings("PMD.BeanMembersShouldSerialize")
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long eventId;
+        private final Long userId;
+        private final Long requesterId;
+        private final BlockingQueue<Change> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean heartbeatDue;
+        private volatile long sendingSince;
+
+        private Subscriber(SseEmitter emitter, Long eventId, Long userId, Long requesterId, int bufferSize) {
+            this.emitter = emitter;
+            this.eventId = eventId;
+            this.userId = userId;
+            this.requesterId = requesterId;
+            this.pending = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Queues the change if it passes the filters.
+         *
+         * @return whether the subscriber has new work, either the change or its overflow.
+         */
+        private boolean offer(Change change) {
+            if ((eventId != null && !Objects.equals(eventId, change.eventId))
+                    || (userId != null && !Objects.equals(userId, change.userId))
+                    || (change.userId != null && !Objects.equals(requesterId, change.userId))) {
+                return false;
+            }
+            if (!pending.offer(change)) {
+                overflowed = true;
+            }
+            return true;
+        }
+
+        private boolean hasWork() {
+            return overflowed || heartbeatDue || !pending.isEmpty();
+        }
+    }
+}
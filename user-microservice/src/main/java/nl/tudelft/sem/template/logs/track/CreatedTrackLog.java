@@ -24,13 +24,13 @@ public class CreatedTrackLog extends TrackLog {
     }
 
     @Override
-    public String getLogSummary() {
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("Track ");
         sb.append(this.subject.getId());
         //sb.append(" in Event "); sb.append(this.subject.getEventId());
         sb.append(" has been successfully created!\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
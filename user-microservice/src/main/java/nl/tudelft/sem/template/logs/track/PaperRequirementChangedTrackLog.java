@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.track;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.enums.LogKind;
 import nl.tudelft.sem.template.model.PaperType;
@@ -28,14 +29,19 @@ public class PaperRequirementChangedTrackLog extends TrackLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("paperType", paperType.name());
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The paper type requirement for Track ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to ");
         sb.append(paperType.name());
         sb.append(".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -25,13 +25,13 @@ public class RemovedTrackLog extends TrackLog {
     }
 
     @Override
-    public String getLogSummary() {
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("Track ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully removed.\n");
         sb.append(".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
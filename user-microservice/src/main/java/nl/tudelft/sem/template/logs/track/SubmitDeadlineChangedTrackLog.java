@@ -1,6 +1,7 @@
 package nl.tudelft.sem.template.logs.track;
 
 import java.time.LocalDate;
+import java.util.Map;
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.enums.LogKind;
 
@@ -29,14 +30,19 @@ public class SubmitDeadlineChangedTrackLog extends TrackLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("submitDeadline", String.valueOf(deadline));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The submission deadline for Track ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to ");
         sb.append(deadline.toString());
         sb.append(".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.track;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.enums.LogKind;
 
@@ -27,14 +28,19 @@ public class TitleChangedTrackLog extends TrackLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("title", String.valueOf(title));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The description for Track ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(title);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -2,16 +2,26 @@ package nl.tudelft.sem.template.logs.track;
 
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.enums.LogType;
-import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.AbstractLog;
 
 /**
  * The specific ```Log``` abstract class for the ```Track``` type.
  */
-public abstract class TrackLog implements Log {
+public abstract class TrackLog extends AbstractLog {
     transient Track subject;
 
     @Override
     public final LogType getLogType() {
         return LogType.TRACK;
     }
+
+    @Override
+    public Long getSubjectId() {
+        return subject.getId();
+    }
+
+    @Override
+    public Long getEventId() {
+        return subject.getEvent() == null ? null : subject.getEvent().getId();
+    }
 }
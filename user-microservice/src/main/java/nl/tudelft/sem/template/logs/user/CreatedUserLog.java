@@ -24,12 +24,12 @@ public class CreatedUserLog extends UserLog {
     }
 
     @Override
-    public String getLogSummary() {
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("User ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully created!\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.user;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.enums.LogKind;
@@ -28,14 +29,19 @@ public class EmailChangedUserLog extends UserLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("email", String.valueOf(email));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The email address of User ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(email);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.user;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.enums.LogKind;
@@ -27,14 +28,19 @@ public class FirstNameChangedUserLog extends UserLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("firstName", String.valueOf(firstName));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The first name of User ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(firstName);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
@@ -1,5 +1,6 @@
 package nl.tudelft.sem.template.logs.user;
 
+import java.util.Map;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.UserAffiliation;
 import nl.tudelft.sem.template.enums.LogKind;
@@ -25,14 +26,19 @@ public class UserAffiliationChangedUserLog extends UserLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("affiliation", String.valueOf(userAffiliation));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The affiliation of the User ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(userAffiliation);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
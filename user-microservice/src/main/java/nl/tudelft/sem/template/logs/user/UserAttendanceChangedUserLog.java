@@ -1,6 +1,8 @@
 package nl.tudelft.sem.template.logs.user;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.enums.LogKind;
@@ -27,14 +29,21 @@ public class UserAttendanceChangedUserLog extends UserLog {
     }
 
     @Override
-    public String getLogSummary() {
+    public Map<String, String> getChangedFields() {
+        return Map.of("attendance", attendance.stream()
+                .map(attendee -> String.valueOf(attendee.getId()))
+                .collect(Collectors.joining(",")));
+    }
+
+    @Override
+    protected String renderSummary() {
         StringBuilder sb = new StringBuilder();
         sb.append("The list of attendances of the User ");
         sb.append(this.subject.getId());
         sb.append(" has been successfully updated to \"");
         sb.append(attendance);
         sb.append("\".\n");
-        sb.append(logDate.toString());
+        sb.append(getLogTime().toString());
         return sb.toString();
     }
 }
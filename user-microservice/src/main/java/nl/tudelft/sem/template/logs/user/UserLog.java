@@ -2,12 +2,12 @@ package nl.tudelft.sem.template.logs.user;
 
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.enums.LogType;
-import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.AbstractLog;
 
 /**
  * The specific ```Log``` abstract class for the ```AppUser``` type.
  */
-public abstract class UserLog implements Log {
+public abstract class UserLog extends AbstractLog {
 
     transient AppUser subject;
 
@@ -20,4 +20,23 @@ public abstract class UserLog implements Log {
     public final LogType getLogType() {
         return LogType.USER;
     }
+
+    /**
+     * Returns the user the log is about.
+     *
+     * @return the subject of the log.
+     */
+    public AppUser getSubject() {
+        return subject;
+    }
+
+    @Override
+    public Long getSubjectId() {
+        return subject.getId();
+    }
+
+    @Override
+    public Long getUserId() {
+        return subject.getId();
+    }
 }
@@ -1,13 +1,16 @@
 package nl.tudelft.sem.template.services;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.NoSuchElementException;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
+import nl.tudelft.sem.template.domain.attendee.AttendeeSpecifications;
 import nl.tudelft.sem.template.domain.attendee.Confirmation;
 import nl.tudelft.sem.template.domain.attendee.Role;
 import nl.tudelft.sem.template.domain.event.Event;
@@ -20,7 +23,9 @@ import nl.tudelft.sem.template.enums.LogType;
 import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.logs.LogFactory;
 import nl.tudelft.sem.template.logs.attendee.AttendeeLogFactory;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -30,10 +35,15 @@ import org.springframework.stereotype.Service;
 @Service
 public class AttendeeService {
 
+    // The unique constraints on the user, event and track of an attendance
+    static final String UNIQUE_ATTENDANCE = "uk_attendees_user_event_track";
+
     private final transient AttendeeRepository attendeeRepository;
     private final transient UserRepository userRepository;
     private final transient EventRepository eventRepository;
     private final transient TrackRepository trackRepository;
+    private final transient PermissionCache permissionCache;
+    private final transient EventLocks eventLocks;
     private final transient AttendeeLogFactory attendeeLogFactory;
 
     /**
@@ -43,14 +53,19 @@ public class AttendeeService {
      * @param userRepository        the user repository injection
      * @param eventRepository       the event repository injection
      * @param trackRepository       the track repository injection
+     * @param permissionCache       the cache of permission decisions
+     * @param eventLocks            the locks serializing invariant-checking mutations of an event
      */
     @Autowired
     public AttendeeService(AttendeeRepository attendeeRepository, UserRepository userRepository,
-                           EventRepository eventRepository, TrackRepository trackRepository) {
+                           EventRepository eventRepository, TrackRepository trackRepository,
+                           PermissionCache permissionCache, EventLocks eventLocks) {
         this.attendeeRepository = attendeeRepository;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.trackRepository = trackRepository;
+        this.permissionCache = permissionCache;
+        this.eventLocks = eventLocks;
         attendeeLogFactory = (AttendeeLogFactory) LogFactory.loadFactory(LogType.ATTENDEE);
     }
 
@@ -61,6 +76,11 @@ public class AttendeeService {
      * confirmed or not, the method throws an {@link IllegalArgumentException} to
      * signify
      * that no change has taken place.
+     * <p>
+     * The attendance is inserted right away, and an existing attendance is detected by the
+     * unique constraint on the user, event and track, so that concurrent creations of the same
+     * attendance cannot both succeed.
+     * </p>
      *
      * @param userId    the user identifier of the attendance to be created
      * @param eventId   the event identifier of the attendance to be created
@@ -76,11 +96,6 @@ public class AttendeeService {
     public Attendee createAttendance(Long userId, Long eventId, Long trackId, RoleTitle role, boolean confirmed)
             throws IllegalArgumentException {
 
-        // Check that no such attendance already exists
-        if (attendeeRepository.existsByUserIdAndEventIdAndTrackId(userId, eventId, trackId)) {
-            throw new IllegalArgumentException("Attendance instance already exists.");
-        }
-
         // User and event are contractually bound to exist already.
         AppUser user = userRepository.findById(userId).get();
         Event event = eventRepository.findById(eventId).get();
@@ -90,12 +105,35 @@ public class AttendeeService {
                 new Role(role), new Confirmation(confirmed), event, track, user);
 
 
-        // Commits the new attendance to the repository
-        attendee = attendeeRepository.save(attendee);
+        // Commits the new attendance to the repository, unless it already exists
+        try {
+            attendee = attendeeRepository.saveAndFlush(attendee);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, UNIQUE_ATTENDANCE)) {
+                throw new IllegalArgumentException("Attendance instance already exists.", e);
+            }
+            throw e;
+        }
+        permissionCache.evict(userId, eventId);
         return  attendee;
 
     }
 
+    /**
+     * Checks whether a failed statement violated a constraint.
+     *
+     * @param e         the failure
+     * @param prefix    the start of the name of the constraint, as created by the migrations
+     * @return ```True``` if the violated constraint is named after the prefix.
+     */
+    static boolean violates(DataIntegrityViolationException e, String prefix) {
+        if (!(e.getCause() instanceof ConstraintViolationException)) {
+            return false;
+        }
+        String constraint = ((ConstraintViolationException) e.getCause()).getConstraintName();
+        return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(prefix);
+    }
+
     /**
      * Deletes the attendance corresponding to the provided identifiers
      * if it already exists in the database. Otherwise, if it does not
@@ -123,6 +161,7 @@ public class AttendeeService {
         // Deletes the Attendee instance associated with the given key
         attendeeRepository.delete(attendee);
         attendeeLogFactory.registerRemoval(attendee);
+        permissionCache.evict(attendee.getUser().getId(), attendee.getEvent().getId());
     }
 
     /**
@@ -136,6 +175,17 @@ public class AttendeeService {
         return attendeeRepository.findById(id).orElse(null);
     }
 
+    /**
+     * Retrieves the version of the attendance object corresponding to the
+     * provided identifier without loading it. If the object does not exist,
+     * then ```null``` is returned.
+     *
+     * @param id the Attendee identifier
+     */
+    public Long getAttendanceVersion(Long id) {
+        return attendeeRepository.findVersionById(id).orElse(null);
+    }
+
     /**
      * Confirms whether an attendance object corresponding to the
      * given identifier exists in the database. Returns ```True```
@@ -153,8 +203,28 @@ public class AttendeeService {
      * Retrieves all attendances corresponding to the given filters. A filter
      * is not considered if it is null. A completely null
      * argument vector will return the list of all attendances present in the
-     * database. If no such attendances exist, then a {@link NoSuchElementException}
-     * is thrown.
+     * database.
+     *
+     * @param userId                    the user filter
+     * @param eventId                   the event filter
+     * @param trackId                   the track filter
+     * @param confirmed                 the confirmation status filter
+     * @return                          the list of corresponding attendances, possibly empty
+     */
+    public List<Attendee> findAttendance(Long userId,
+                                         Long eventId,
+                                         Long trackId,
+                                         Boolean confirmed) {
+        // Nonexistent identifiers simply match no attendances.
+        Confirmation confirmation = (confirmed == null) ? null : new Confirmation(confirmed);
+        return attendeeRepository.findFiltered(userId, eventId, trackId, confirmation);
+    }
+
+    /**
+     * Retrieves all attendances corresponding to the given filters, as
+     * {@link #findAttendance} does. If no such attendances exist, then a
+     * {@link NoSuchElementException} is thrown; callers that expect empty
+     * results should use {@link #findAttendance} instead.
      *
      * @param userId                    the user filter
      * @param eventId                   the event filter
@@ -170,41 +240,7 @@ public class AttendeeService {
                                                 Boolean confirmed)
             throws NoSuchElementException {
 
-        // Retrieve the object instances
-        AppUser user = null;
-        Event event = null;
-        Track track = null;
-
-        if (userId != null) {
-            var retrieved = userRepository.findById(userId);
-            // If no user can be found, then there are no associated attendances.
-            if (retrieved.isEmpty()) {
-                throw new NoSuchElementException("No confirmed attendance associated with this user can be found.");
-            }
-            user = retrieved.get();
-        }
-
-        if (eventId != null) {
-            var retrieved = eventRepository.findById(eventId);
-            // If no event can be found, then there are no associated attendances.
-            if (retrieved.isEmpty()) {
-                throw new NoSuchElementException("No confirmed attendance associated with this user can be found.");
-            }
-            event = retrieved.get();
-        }
-
-        if (trackId != null) {
-            var retrieved = trackRepository.findById(trackId);
-            // If no track can be found, then there are no associated attendances.
-            if (retrieved.isEmpty()) {
-                throw new NoSuchElementException("No confirmed attendance associated with this user can be found.");
-            }
-            track = retrieved.get();
-        }
-
-        // Retrieve the filtered list
-        Confirmation confirmation = (confirmed == null) ? null : new Confirmation(confirmed);
-        List<Attendee> retrievedList = attendeeRepository.findFiltered(user, event, track, confirmation);
+        List<Attendee> retrievedList = findAttendance(userId, eventId, trackId, confirmed);
 
         // Exception handling for when no attendances can be found.
         if (retrievedList.isEmpty()) {
@@ -215,6 +251,29 @@ public class AttendeeService {
         return retrievedList;
     }
 
+    /**
+     * Retrieves a page of confirmed attendances corresponding to the given filters,
+     * ordered by identifier. The event and track filters are not considered if null;
+     * the next page is retrieved by passing the identifier of the last attendance
+     * of this page as the cursor.
+     *
+     * @param eventId   the event filter
+     * @param trackId   the track filter
+     * @param roles     the roles the attendances may have
+     * @param after     the cursor, or null for the first page
+     * @param limit     the maximum size of the page
+     * @return          the page of corresponding attendances, possibly empty
+     */
+    public List<Attendee> getAttendancePage(Long eventId,
+                                            Long trackId,
+                                            Collection<RoleTitle> roles,
+                                            Long after,
+                                            int limit) {
+        List<Role> roleFilter = roles.stream().map(Role::new).collect(Collectors.toList());
+        return attendeeRepository.findPage(
+                AttendeeSpecifications.confirmedPage(eventId, trackId, roleFilter, after), limit);
+    }
+
     /**
      * Modifies the role of the corresponding attendance if it exists. Otherwise,
      * a {@link NoSuchElementException} is thrown to indicate that the attendance
@@ -227,71 +286,78 @@ public class AttendeeService {
      *                                exists, and, therefore, that no modification
      *                                can take place.
      */
-    @Transactional
     public Attendee modifyTitle(Long executorId, Long id, RoleTitle role)
             throws NoSuchElementException, IllegalArgumentException, IllegalCallerException {
-        if (id == null) {
-            throw new NoSuchElementException("No such attendance is found; cannot be modified.");
+        TitleChange change = changeTitle(executorId, id, role);
+        switch (change.getOutcome()) {
+            case NO_SUCH_ATTENDANCE:
+                throw new NoSuchElementException("No such attendance is found; cannot be modified.");
+            case NO_SUCH_EXECUTOR:
+                throw new IllegalCallerException("Executor does not exist");
+            case INSUFFICIENT_PERMISSION:
+                throw new IllegalCallerException("Executor has no permissions");
+            case INVALID_GENERAL_CHAIR_COUNT:
+                throw new IllegalArgumentException("No sufficient number of general chairs to proceed with this operation.");
+            default:
+                return change.getAttendee();
         }
-        Optional<Attendee> retrievedAttendance = attendeeRepository.findById(id);
+    }
 
-        // Exception handling for when the repository can find the instance
-        if (retrievedAttendance.isEmpty()) {
-            throw new NoSuchElementException("No such attendance is found; cannot be modified.");
+    /**
+     * Modifies the role of the corresponding attendance, provided that the executor
+     * may do so. A rejected modification is returned as an outcome rather than thrown.
+     * Concurrent modifications within the same event are serialized, and a modification that
+     * conflicts with a concurrent update of the attendance is retried; see {@link EventLocks}.
+     *
+     * @param executorId the initiator of the request
+     * @param id         the attendance identifier
+     * @param role       the new role
+     * @return the outcome, holding the modified attendance if the modification took place.
+     */
+    public TitleChange changeTitle(Long executorId, Long id, RoleTitle role) {
+        Long eventId = (id == null) ? null : attendeeRepository.findEventIdById(id).orElse(null);
+        if (eventId == null) {
+            return TitleChange.rejected(TitleChange.Outcome.NO_SUCH_ATTENDANCE);
         }
-        Attendee attendee = retrievedAttendance.get();
+        // The general chair count is checked and changed under the lock of the event
+        return eventLocks.mutate(eventId, () -> applyTitleChange(executorId, id, role));
+    }
 
-        Optional<AppUser> retrievedUser = userRepository.findById(executorId);
-        if (retrievedUser.isEmpty()) {
-            throw new IllegalCallerException("Executor does not exist");
+    private TitleChange applyTitleChange(Long executorId, Long id, RoleTitle role) {
+        Attendee attendee = attendeeRepository.findById(id).orElse(null);
+        if (attendee == null) {
+            return TitleChange.rejected(TitleChange.Outcome.NO_SUCH_ATTENDANCE);
         }
-        List<Attendee> executorList = null;
-        try {
-            executorList = this.getFilteredAttendance(executorId,
-                    attendee.getEvent().getId(),
-                    null,
-                    true);
-            executorList.removeIf((x) -> x.getTrack() != null
-                    && (attendee.getTrack() == null
-                    || (x.getTrack().getId() != attendee.getTrack().getId())));
-            if (executorList.isEmpty()) {
-                throw new NoSuchElementException();
-            }
-        } catch (NoSuchElementException e) {
-            throw new IllegalCallerException("Executor does not exist");
+        if (executorId == null || !userRepository.existsById(executorId)) {
+            return TitleChange.rejected(TitleChange.Outcome.NO_SUCH_EXECUTOR);
         }
 
-        executorList.sort(Comparator
-                 .comparingInt(x -> x.getRole().getRoleTitle().getPermission()));
-
-
-        if (executorList
-                .get(0)
-                .getRole()
-                .getRoleTitle()
-                .getPermission() > attendee
-                .getRole()
-                .getRoleTitle()
-                .getPrecedence()) {
-            throw new IllegalCallerException("Executor has no permissions");
+        // The strongest permission of the executor within the event or the track of the attendance
+        OptionalInt permission = attendeeRepository.findMinimumPermission(executorId,
+                attendee.getEvent().getId(),
+                attendee.getTrack() == null ? null : attendee.getTrack().getId());
+        if (permission.isEmpty()) {
+            return TitleChange.rejected(TitleChange.Outcome.NO_SUCH_EXECUTOR);
+        }
+        if (permission.getAsInt() > attendee.getRole().getRoleTitle().getPrecedence()) {
+            return TitleChange.rejected(TitleChange.Outcome.INSUFFICIENT_PERMISSION);
         }
 
         if (role == RoleTitle.GENERAL_CHAIR || attendee.getRole().getRoleTitle() == RoleTitle.GENERAL_CHAIR) {
-            var allAttendee = this.getFilteredAttendance(null, attendee.getEvent().getId(), null, true);
-            allAttendee.removeIf(x -> x.getRole().getRoleTitle() != RoleTitle.GENERAL_CHAIR);
-            if (!(role == RoleTitle.GENERAL_CHAIR && allAttendee.size() < 2)
-                    && !(attendee.getRole().getRoleTitle() == RoleTitle.GENERAL_CHAIR && allAttendee.size() > 1)) {
-                throw new IllegalArgumentException("No sufficient number of general chairs to proceed with this operation.");
+            long generalChairs = attendeeRepository.countByEventIdAndRoleAndConfirmation(attendee.getEvent().getId(),
+                    new Role(RoleTitle.GENERAL_CHAIR), new Confirmation(true));
+            if (!(role == RoleTitle.GENERAL_CHAIR && generalChairs < 2)
+                    && !(attendee.getRole().getRoleTitle() == RoleTitle.GENERAL_CHAIR && generalChairs > 1)) {
+                return TitleChange.rejected(TitleChange.Outcome.INVALID_GENERAL_CHAIR_COUNT);
             }
         }
 
-
-
         attendee.setRole(new Role(role));
 
         // Commit the changes
-        return attendeeRepository.save(attendee);
-
+        Attendee modified = attendeeRepository.save(attendee);
+        permissionCache.evict(modified.getUser().getId(), modified.getEvent().getId());
+        return TitleChange.changed(modified);
     }
 
     /**
@@ -318,35 +384,13 @@ public class AttendeeService {
             return true;
         }
 
-        List<Attendee> executorAttendees;
-        try {
-            executorAttendees = getFilteredAttendance(executorId, subject.getEvent().getId(),
-                    null, true);
-
-            // Remove irrelevant attendances.
-            executorAttendees.removeIf((x) -> (subject.getTrack() == null && x.getTrack() != null)
-                    || (x.getTrack() != null
-                    && !Objects.equals(x.getTrack().getId(), subject.getTrack().getId())));
-
-            if (executorAttendees.isEmpty()) {
-                return false;
-            }
-
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        // Extract the greatest permission within the event or the track of the subject
+        OptionalInt permission = attendeeRepository.findMinimumPermission(executorId,
+                subject.getEvent().getId(),
+                subject.getTrack() == null ? null : subject.getTrack().getId());
 
-        // Extract the greatest permission
-        executorAttendees.sort(Comparator.comparingLong(x -> x.getRole().getRoleTitle().getPermission()));
-
-        return executorAttendees.get(0)
-                .getRole()
-                .getRoleTitle()
-                .getPermission()
-                <= subject
-                .getRole()
-                .getRoleTitle()
-                .getPrecedence();
+        return permission.isPresent()
+                && permission.getAsInt() <= subject.getRole().getRoleTitle().getPrecedence();
 
     }
 }
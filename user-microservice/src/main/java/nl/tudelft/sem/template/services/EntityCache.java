@@ -0,0 +1,172 @@
+package nl.tudelft.sem.template.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Supplier;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.track.Track;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.logs.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A read-through cache of the events, tracks and users looked up by their identifier.
+ * <p>
+ * Each region keeps at most ```MAX_ENTITIES``` entities for at most ```ENTITY_TTL```. An entity
+ * is evicted once a transaction that recorded a log about it has completed, whether it committed
+ * or rolled back, so that neither the old state nor uncommitted state outlives the change.
+ * Removals do not record a log, so the services evict removed entities themselves.
+ * </p>
+ * <p>
+ * The cached entities are detached: they may be read, but their lazy associations may not be
+ * navigated. Hit, miss and eviction counts are exported under the ```events```, ```tracks```
+ * and ```users``` cache names, along with a ```cache.hit.ratio``` gauge per region.
+ * </p>
+ */
+@Component
+public class EntityCache {
+
+    private static final long MAX_ENTITIES = 10_000;
+    private static final Duration ENTITY_TTL = Duration.ofMinutes(10);
+
+    private final transient Cache<Long, Event> events = newRegion();
+    private final transient Cache<Long, Track> tracks = newRegion();
+    private final transient Cache<Long, AppUser> users = newRegion();
+
+    /**
+     * Creates the cache and registers the metrics of its regions.
+     *
+     * @param meterRegistry the registry the hit/miss and eviction metrics are exported to
+     */
+    @Autowired
+    public EntityCache(MeterRegistry meterRegistry) {
+        monitor(meterRegistry, events, "events");
+        monitor(meterRegistry, tracks, "tracks");
+        monitor(meterRegistry, users, "users");
+    }
+
+    private static <V> Cache<Long, V> newRegion() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_ENTITIES)
+                .expireAfterWrite(ENTITY_TTL)
+                .recordStats()
+                .build();
+    }
+
+    private static void monitor(MeterRegistry meterRegistry, Cache<Long, ?> region, String name) {
+        CaffeineCacheMetrics.monitor(meterRegistry, region, name);
+        Gauge.builder("cache.hit.ratio", region, cache -> cache.stats().hitRate())
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the event with the given id, loading it on a cache miss.
+     *
+     * @param id     the event identifier
+     * @param loader loads the event, or returns null if it does not exist
+     * @return the event, or null if it does not exist.
+     */
+    public Event getEvent(Long id, Supplier<Event> loader) {
+        return events.get(id, key -> loader.get());
+    }
+
+    /**
+     * Returns the track with the given id, loading it on a cache miss.
+     *
+     * @param id     the track identifier
+     * @param loader loads the track, or returns null if it does not exist
+     * @return the track, or null if it does not exist.
+     */
+    public Track getTrack(Long id, Supplier<Track> loader) {
+        return tracks.get(id, key -> loader.get());
+    }
+
+    /**
+     * Returns the user with the given id, loading it on a cache miss.
+     *
+     * @param id     the user identifier
+     * @param loader loads the user, or returns null if it does not exist
+     * @return the user, or null if it does not exist.
+     */
+    public AppUser getUser(Long id, Supplier<AppUser> loader) {
+        return users.get(id, key -> loader.get());
+    }
+
+    /**
+     * Evicts the subject of a log once the transaction that recorded it has completed.
+     *
+     * @param log the published log
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void invalidate(Log log) {
+        switch (log.getLogType()) {
+            case EVENT:
+                events.invalidate(log.getSubjectId());
+                break;
+            case TRACK:
+                tracks.invalidate(log.getSubjectId());
+                break;
+            case USER:
+                users.invalidate(log.getSubjectId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Evicts a removed event, along with all tracks since those are removed with it.
+     *
+     * @param id the event identifier
+     */
+    public void evictEvent(Long id) {
+        evictUntilCompletion(() -> {
+            events.invalidate(id);
+            tracks.invalidateAll();
+        });
+    }
+
+    /**
+     * Evicts a modified or removed track.
+     *
+     * @param id the track identifier
+     */
+    public void evictTrack(Long id) {
+        evictUntilCompletion(() -> tracks.invalidate(id));
+    }
+
+    /**
+     * Evicts a removed user.
+     *
+     * @param id the user identifier
+     */
+    public void evictUser(Long id) {
+        evictUntilCompletion(() -> users.invalidate(id));
+    }
+
+    /**
+     * Runs an eviction now and, within a transaction, again once it has completed, so that a
+     * concurrent read cannot cache the entity as it was before the transaction.
+     */
+    private void evictUntilCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package nl.tudelft.sem.template.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Getter;
+import nl.tudelft.sem.template.model.EventDeletion;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes events in the background.
+ * <p>
+ * Deleting an event with many tracks and attendances still takes a while, so it can be handed to
+ * this component, which answers with a job right away. The jobs run one at a time on a single
+ * thread, so that large deletions do not occupy more than one connection of the pool. Jobs are
+ * kept for ```JOB_RETENTION``` after they were submitted, at most ```MAX_JOBS``` at a time, so
+ * that their outcome can be looked up.
+ * </p>
+ */
+@Component
+public class EventDeletionJobs implements DisposableBean {
+
+    private static final long MAX_JOBS = 10_000;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final transient EventService eventService;
+    private final transient ExecutorService executor;
+    private final transient Cache<UUID, Job> jobs = Caffeine.newBuilder()
+            .maximumSize(MAX_JOBS)
+            .expireAfterWrite(JOB_RETENTION)
+            .build();
+
+    /**
+     * Creates the component and its deletion thread.
+     *
+     * @param eventService the service deleting the events
+     */
+    @Autowired
+    public EventDeletionJobs(EventService eventService) {
+        this.eventService = eventService;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-deletion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the deletion of an event.
+     *
+     * @param eventId the event identifier
+     * @return the job deleting the event.
+     */
+    public Job submit(Long eventId) {
+        Job job = new Job(UUID.randomUUID(), eventId);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Looks up a deletion job.
+     *
+     * @param id the job identifier
+     * @return the job, or empty if it does not exist or is no longer retained.
+     */
+    public Optional<Job> getJob(UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    private void run(Job job) {
+        job.status = EventDeletion.StatusEnum.RUNNING;
+        try {
+            boolean deleted = eventService.deleteEvent(job.getEventId());
+            job.status = deleted ? EventDeletion.StatusEnum.COMPLETED : EventDeletion.StatusEnum.NOT_FOUND;
+        } catch (RuntimeException e) {
+            job.status = EventDeletion.StatusEnum.FAILED;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The deletion of an event.
+     */
+    @Getter
+    public static final class Job {
+        private final transient UUID id;
+        private final transient Long eventId;
+        private transient volatile EventDeletion.StatusEnum status = EventDeletion.StatusEnum.PENDING;
+
+        private Job(UUID id, Long eventId) {
+            this.id = id;
+            this.eventId = eventId;
+        }
+
+        /**
+         * A converter from the Domain representation to the API Model representation.
+         *
+         * @return An API model EventDeletion instance.
+         */
+        public EventDeletion toModel() {
+            return new EventDeletion().id(id).eventId(eventId).status(status);
+        }
+    }
+}
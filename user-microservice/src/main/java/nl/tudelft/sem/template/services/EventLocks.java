@@ -0,0 +1,99 @@
+package nl.tudelft.sem.template.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serializes the mutations of an event that check an invariant spanning several rows.
+ * <p>
+ * A check such as "the event keeps at least one general chair" reads other rows than the
+ * one it writes, so the version columns cannot detect two mutations that each pass it.
+ * Such mutations run under a lock on the event instead, held until their transaction has
+ * completed. The locks are striped: ```STRIPES``` locks are shared by all events, so
+ * unrelated events rarely wait on each other while the memory used stays fixed.
+ * </p>
+ * <p>
+ * A mutation that still loses a race on a version column is retried in a new transaction, up
+ * to ```MAX_ATTEMPTS``` times in all. Retries are counted under ```event.mutations.retries```.
+ * </p>
+ */
+@Component
+public class EventLocks {
+
+    static final int STRIPES = 64;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final transient Lock[] stripes = new Lock[STRIPES];
+    private final transient TransactionTemplate transactionTemplate;
+    private final transient Counter retries;
+
+    /**
+     * Creates the locks.
+     *
+     * @param transactionManager    the manager of the transactions the mutations run in
+     * @param meterRegistry         the registry the retry count is exported to
+     */
+    @Autowired
+    public EventLocks(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retries = meterRegistry.counter("event.mutations.retries");
+    }
+
+    /**
+     * Runs a mutation of an event in a transaction of its own while holding the lock of the event,
+     * retrying it if it conflicts with a concurrent update.
+     * <p>
+     * Within a transaction of the caller the mutation joins that transaction instead, and the lock
+     * is held until it completes; a conflict then surfaces to the caller, as it cannot be retried
+     * on its own.
+     * </p>
+     *
+     * @param eventId   the identifier of the mutated event
+     * @param mutation  the mutation, which checks the invariants of the event and applies its changes
+     * @param <T>       the result type of the mutation
+     * @return the result of the mutation.
+     * @throws OptimisticLockingFailureException if the mutation still conflicts after its last attempt
+     */
+    public <T> T mutate(Long eventId, Supplier<T> mutation) {
+        Lock lock = stripes[Math.floorMod(eventId.hashCode(), STRIPES)];
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            lock.lock();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+            return mutation.get();
+        }
+
+        int attempt = 1;
+        while (true) {
+            lock.lock();
+            try {
+                return transactionTemplate.execute(status -> mutation.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+            attempt++;
+            retries.increment();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package nl.tudelft.sem.template.services;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.event.EventLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A full-text index over the names and descriptions of the events.
+ * <p>
+ * A token in the name weighs ```NAME_WEIGHT``` times as much as one in the description; see
+ * ```TokenIndex``` for how queries are matched and ranked.
+ * </p>
+ * <p>
+ * The index is built from the database once the application is ready, and kept up to date from
+ * the logs of the events once their transaction has committed. Removals do not record a log, so
+ * the services remove removed events themselves.
+ * </p>
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final int NAME_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final transient EventRepository eventRepository;
+    private final transient TokenIndex index = new TokenIndex();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param eventRepository the repository the index is built from
+     */
+    @Autowired
+    public EventSearchIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Rebuilds the index from all stored events.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        index.clear();
+        eventRepository.findAll().forEach(this::put);
+    }
+
+    /**
+     * Re-indexes the subject of an event log once the transaction that recorded it has committed.
+     *
+     * @param log the published log
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void reindex(Log log) {
+        if (log instanceof EventLog) {
+            put(((EventLog) log).getSubject());
+        }
+    }
+
+    /**
+     * Indexes an event, replacing the tokens it was indexed under before.
+     *
+     * @param event the event
+     */
+    public void put(Event event) {
+        Map<String, Integer> weights = new HashMap<>();
+        TokenIndex.weigh(weights, event.getName(), NAME_WEIGHT);
+        TokenIndex.weigh(weights, event.getDescription(), DESCRIPTION_WEIGHT);
+        index.put(event.getId(), weights);
+    }
+
+    /**
+     * Removes an event from the index.
+     *
+     * @param id the event identifier
+     */
+    public void remove(Long id) {
+        index.remove(id);
+    }
+
+    /**
+     * Removes a removed event from the index once its transaction has committed.
+     *
+     * @param id the event identifier
+     */
+    public void removeAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                remove(id);
+            }
+        });
+    }
+
+    /**
+     * Finds the events matching every term of a query.
+     *
+     * @param query the query, of which the terms match whole words and their prefixes
+     * @return the identifiers of the matching events, the most relevant first.
+     */
+    public List<Long> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the most relevant events matching every term of a query.
+     *
+     * @param query the query, of which the terms match whole words and their prefixes
+     * @param limit the maximum number of events to return
+     * @return the identifiers of the matching events, the most relevant first.
+     */
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+}
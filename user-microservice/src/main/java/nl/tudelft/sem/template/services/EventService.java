@@ -1,6 +1,8 @@
 package nl.tudelft.sem.template.services;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
@@ -11,11 +13,18 @@ import nl.tudelft.sem.template.domain.event.EventDescription;
 import nl.tudelft.sem.template.domain.event.EventName;
 import nl.tudelft.sem.template.domain.event.EventRepository;
 import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.track.TrackRepository;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.enums.LogType;
 import nl.tudelft.sem.template.enums.RoleTitle;
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.LogBatch;
+import nl.tudelft.sem.template.logs.RemovalLog;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -27,7 +36,11 @@ public class EventService {
     private final transient EventRepository eventRepository;
     private final transient UserRepository userRepository;
     private final transient AttendeeRepository attendeeRepository;
-
+    private final transient TrackRepository trackRepository;
+    private final transient PermissionCache permissionCache;
+    private final transient EntityCache entityCache;
+    private final transient EventSearchIndex eventSearchIndex;
+    private final transient ApplicationEventPublisher eventPublisher;
 
     /**
      * A constructor dependency injection for the Event JPA Repository concrete
@@ -35,10 +48,16 @@ public class EventService {
      */
     @Autowired
     public EventService(EventRepository eventRepository, UserRepository userRepository,
-        AttendeeRepository attendeeRepository) {
+        AttendeeRepository attendeeRepository, TrackRepository trackRepository, PermissionCache permissionCache,
+        EntityCache entityCache, EventSearchIndex eventSearchIndex, ApplicationEventPublisher eventPublisher) {
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
         this.attendeeRepository = attendeeRepository;
+        this.trackRepository = trackRepository;
+        this.permissionCache = permissionCache;
+        this.entityCache = entityCache;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -57,6 +76,7 @@ public class EventService {
         Attendee attendee = new Attendee(new Role(RoleTitle.GENERAL_CHAIR), new Confirmation(true), returnedEvent, null,
             user);
         attendeeRepository.save(attendee);
+        permissionCache.evictEvent(returnedEvent.getId());
 
         return returnedEvent;
     }
@@ -67,7 +87,22 @@ public class EventService {
     @Transactional
     public Event updateEvent(Long id, LocalDate startDate, LocalDate endDate, boolean isCancelled, String name,
         String description) {
+        return updateEvent(id, startDate, endDate, isCancelled, name, description, null);
+    }
+
+    /**
+     * Updates an event, provided that it is still at the expected version.
+     *
+     * @param expectedVersion the version the update is based on, or null to update any version
+     * @throws OptimisticLockingFailureException if the event was updated in the meantime
+     */
+    @Transactional
+    public Event updateEvent(Long id, LocalDate startDate, LocalDate endDate, boolean isCancelled, String name,
+        String description, Long expectedVersion) {
         Event event = eventRepository.findById(id).get();
+        if (expectedVersion != null && expectedVersion != event.getVersion()) {
+            throw new OptimisticLockingFailureException("Event " + id + " was updated in the meantime.");
+        }
         event.setStartDate(startDate);
         event.setEndDate(endDate);
         event.setIsCancelled(new IsCancelled(isCancelled));
@@ -79,14 +114,25 @@ public class EventService {
 
 
     /**
-     * Retrieves an event.
+     * Retrieves an event, from the entity cache if possible.
      *
      * @param id the event identifier
      * @return the corresponding event.
      */
     @Transactional
     public Event getEventById(Long id) {
-        return eventRepository.findById(id).orElse(null);
+        return entityCache.getEvent(id, () -> eventRepository.findById(id).orElse(null));
+    }
+
+    /**
+     * Retrieves the version of an event without loading it.
+     *
+     * @param id the event identifier
+     * @return the version of the event, or null if it does not exist.
+     */
+    @Transactional
+    public Long getEventVersion(Long id) {
+        return eventRepository.findVersionById(id).orElse(null);
     }
 
     /**
@@ -101,17 +147,41 @@ public class EventService {
     }
 
     /**
-     * Deletes the event with the given id.
+     * Deletes the event with the given id, along with its tracks and attendances.
+     * <p>
+     * Rather than loading the event with its tracks and attendances and removing them one at a
+     * time through its cascades, every table is cleared with a single statement, in the order of
+     * their foreign keys. Only the identifiers are read beforehand, to log the removal of every
+     * deleted attendance and track, and of the event itself. The removal logs are published
+     * together, as a single batch.
+     * </p>
      *
      * @param id event id
      * @return true if event was deleted successfully, false otherwise
      */
     @Transactional
     public boolean deleteEvent(Long id) {
-        if (eventRepository.existsById(id)) {
-            eventRepository.deleteById(id);
-            return true;
+        if (!eventRepository.existsById(id)) {
+            return false;
         }
-        return false;
+        List<Log> removals = new ArrayList<>();
+        for (AttendeeRepository.AttendanceKey attendance : attendeeRepository.findKeysByEventId(id)) {
+            removals.add(new RemovalLog(LogType.ATTENDEE, attendance.getId(), id, attendance.getUserId()));
+        }
+        for (Long track : trackRepository.findIdsByEventId(id)) {
+            removals.add(new RemovalLog(LogType.TRACK, track, id, null));
+        }
+        removals.add(new RemovalLog(LogType.EVENT, id, id, null));
+
+        attendeeRepository.deleteAllByEventId(id);
+        trackRepository.deleteAllByEventId(id);
+        eventRepository.deleteInBulkById(id);
+
+        eventPublisher.publishEvent(new LogBatch(removals));
+
+        permissionCache.evictEvent(id);
+        entityCache.evictEvent(id);
+        eventSearchIndex.removeAfterCommit(id);
+        return true;
     }
 }
@@ -0,0 +1,63 @@
+package nl.tudelft.sem.template.services;
+
+import java.time.Instant;
+import java.util.List;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.store.LogPage;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import nl.tudelft.sem.template.logs.store.SegmentedLogStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * A DDD service for the recorded change history.
+ */
+@Service
+public class HistoryService {
+
+    private final transient SegmentedLogStore logStore;
+
+    /**
+     * A constructor dependency injection for the audit log store.
+     *
+     * @param logStore the store the logs of every change are appended to
+     */
+    @Autowired
+    public HistoryService(SegmentedLogStore logStore) {
+        this.logStore = logStore;
+    }
+
+    /**
+     * Retrieves a page of the changes recorded for a subject, oldest first.
+     * <p>
+     * Logs reach the store asynchronously, so a change committed a moment ago may not be listed yet.
+     * </p>
+     *
+     * @param logType   the type of the subject
+     * @param subjectId the id of the subject
+     * @param logKind   the kind of change to filter on, or null for all kinds
+     * @param from      the inclusive lower bound of the time of the change, or null
+     * @param to        the exclusive upper bound of the time of the change, or null
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param limit     the maximum number of changes in the page
+     * @return the page of changes
+     */
+    public LogPage getHistory(LogType logType, long subjectId, LogKind logKind,
+                              Instant from, Instant to, Long after, int limit) {
+        return logStore.history(logType, subjectId, logKind, from, to, after, limit);
+    }
+
+    /**
+     * Retrieves the first change recorded for a subject, which holds the event and the user the
+     * subject belongs to, even once the subject has been removed.
+     *
+     * @param logType   the type of the subject
+     * @param subjectId the id of the subject
+     * @return the first change, or null if no change was recorded for the subject
+     */
+    public LogRecord getFirstChange(LogType logType, long subjectId) {
+        List<LogRecord> records = logStore.history(logType, subjectId, null, null, null, null, 1).getRecords();
+        return records.isEmpty() ? null : records.get(0);
+    }
+}
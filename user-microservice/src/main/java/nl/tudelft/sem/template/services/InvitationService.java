@@ -1,22 +1,35 @@
 package nl.tudelft.sem.template.services;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
+import nl.tudelft.sem.template.domain.attendee.BatchInvitation;
 import nl.tudelft.sem.template.domain.attendee.Confirmation;
+import nl.tudelft.sem.template.domain.attendee.Role;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.EventRepository;
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.domain.track.TrackRepository;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.enums.InvitationOutcome;
 import nl.tudelft.sem.template.enums.LogType;
 import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.logs.LogFactory;
 import nl.tudelft.sem.template.logs.attendee.AttendeeLogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 
@@ -33,6 +46,8 @@ public class InvitationService {
     private final transient EventRepository eventRepository;
     private final transient TrackRepository trackRepository;
     private final transient AttendeeService attendeeService;
+    private final transient PermissionCache permissionCache;
+    private final transient EventLocks eventLocks;
     private final transient AttendeeLogFactory attendeeLogFactory;
 
     /**
@@ -43,16 +58,21 @@ public class InvitationService {
      * @param eventRepository       the event repository injection
      * @param trackRepository       the track repository injection
      * @param attendeeService       the attendance service injection
+     * @param permissionCache       the cache of permission decisions
+     * @param eventLocks            the locks serializing the batch invitations of an event
      */
     @Autowired
     public InvitationService(AttendeeRepository attendeeRepository, UserRepository userRepository,
                              EventRepository eventRepository, TrackRepository trackRepository,
-                             AttendeeService attendeeService) {
+                             AttendeeService attendeeService, PermissionCache permissionCache,
+                             EventLocks eventLocks) {
         this.attendeeRepository = attendeeRepository;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
         this.trackRepository = trackRepository;
         this.attendeeService = attendeeService;
+        this.permissionCache = permissionCache;
+        this.eventLocks = eventLocks;
         attendeeLogFactory = (AttendeeLogFactory) LogFactory.loadFactory(LogType.ATTENDEE);
     }
 
@@ -70,14 +90,110 @@ public class InvitationService {
      */
     public Attendee invite(Long executorId, Long userId, Long eventId, Long trackId, RoleTitle role) {
 
-        List<Attendee> executors = attendeeService.getFilteredAttendance(executorId, eventId, trackId, true);
-        if (executors.get(0).getRole().getRoleTitle().getPermission() > role.getPrecedence()) {
-            throw new NoSuchElementException("Inviter has insufficient permission to create the invitation.");
-        }
+        checkInviter(executorId, eventId, trackId, role);
 
         return attendeeService.createAttendance(userId, eventId, trackId, role, false);
     }
 
+    /**
+     * Invites many users at once by creating unconfirmed attendances with the
+     * specified arguments. The permission of the executor is checked once for the
+     * whole batch; if it is insufficient, a {@link NoSuchElementException} is thrown
+     * and no invitation is created. Users that do not exist, or that already have an
+     * attendance for the event and track, are skipped. All new invitations are
+     * inserted together.
+     * <p>
+     * The batch invitations of an event are serialized, and inserted in a transaction
+     * of their own. Should a user still be invited concurrently by a single invitation,
+     * the unique constraint on attendances rejects the batch, which is then attempted
+     * again and reports that user as already attending.
+     * </p>
+     *
+     * @param executorId the inviter (user) identifier
+     * @param userIds    the identifiers of the users to invite
+     * @param eventId    the event identifier
+     * @param trackId    the track identifier
+     * @param role       the event role to be conferred
+     * @return the outcome for every distinct user identifier, in the given order.
+     */
+    public List<BatchInvitation> inviteAll(Long executorId, List<Long> userIds, Long eventId, Long trackId,
+                                           RoleTitle role) {
+
+        checkInviter(executorId, eventId, trackId, role);
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return eventLocks.mutate(eventId, () -> insertInvitations(userIds, eventId, trackId, role));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= EventLocks.MAX_ATTEMPTS || !AttendeeService.violates(e, AttendeeService.UNIQUE_ATTENDANCE)) {
+                    throw e;
+                }
+            }
+            attempt++;
+        }
+    }
+
+    /**
+     * Inserts the invitations of a batch for the users that exist and do not attend yet.
+     *
+     * @param userIds    the identifiers of the users to invite
+     * @param eventId    the event identifier
+     * @param trackId    the track identifier
+     * @param role       the event role to be conferred
+     * @return the outcome for every distinct user identifier, in the given order.
+     * @throws DataIntegrityViolationException if one of the users was invited concurrently
+     */
+    private List<BatchInvitation> insertInvitations(List<Long> userIds, Long eventId, Long trackId, RoleTitle role) {
+        // The executor attends the event (and track), so both exist.
+        Event event = eventRepository.findById(eventId).get();
+        Track track = (trackId == null) ? null : trackRepository.findById(trackId).orElse(null);
+
+        // Resolve all users and their current attendances in one query each.
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        Map<Long, AppUser> users = userRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(AppUser::getId, Function.identity()));
+        Set<Long> attending = new HashSet<>(attendeeRepository.findAttendingUserIds(requested, eventId, trackId));
+
+        List<BatchInvitation> outcomes = new ArrayList<>(requested.size());
+        List<Attendee> invitations = new ArrayList<>();
+        for (Long userId : requested) {
+            AppUser user = users.get(userId);
+            if (user == null) {
+                outcomes.add(new BatchInvitation(userId, InvitationOutcome.UNKNOWN_USER, null));
+            } else if (attending.contains(userId)) {
+                outcomes.add(new BatchInvitation(userId, InvitationOutcome.ALREADY_EXISTS, null));
+            } else {
+                Attendee invitation = new Attendee(new Role(role), new Confirmation(false), event, track, user);
+                invitations.add(invitation);
+                outcomes.add(new BatchInvitation(userId, InvitationOutcome.INVITED, invitation));
+            }
+        }
+
+        // Inserted in JDBC batches; unconfirmed invitations grant no permission,
+        // so no cached permission decision is affected. Flushed here, so that a
+        // violated constraint surfaces before the transaction commits.
+        attendeeRepository.saveAll(invitations);
+        attendeeRepository.flush();
+        return outcomes;
+    }
+
+    /**
+     * Checks that the executor may confer the role within the event or track.
+     *
+     * @param executorId the inviter (user) identifier
+     * @param eventId    the event identifier
+     * @param trackId    the track identifier
+     * @param role       the event role to be conferred
+     * @throws NoSuchElementException if the executor does not attend, or has insufficient permission.
+     */
+    private void checkInviter(Long executorId, Long eventId, Long trackId, RoleTitle role) {
+        OptionalInt permission = attendeeRepository.findMinimumPermission(executorId, eventId, trackId);
+        if (permission.isEmpty() || permission.getAsInt() > role.getPrecedence()) {
+            throw new NoSuchElementException("Inviter has insufficient permission to create the invitation.");
+        }
+    }
+
     /**
      * Accepts an invitation by changing the confirmed attribute to true.
      *
@@ -86,14 +202,33 @@ public class InvitationService {
      */
     @Transactional
     public Attendee accept(Long executorId, Long subjectId) {
+        return accept(executorId, subjectId, null);
+    }
+
+    /**
+     * Accepts an invitation by changing the confirmed attribute to true, provided
+     * that it is still at the expected version.
+     *
+     * @param executorId      the executor identifier
+     * @param subjectId       the invitation identifier
+     * @param expectedVersion the version the acceptance is based on, or null to accept any version
+     * @throws OptimisticLockingFailureException if the invitation was modified in the meantime
+     */
+    @Transactional
+    public Attendee accept(Long executorId, Long subjectId, Long expectedVersion) {
 
         if (!attendeeService.suffices(executorId, subjectId)) {
             throw new IllegalArgumentException("Inviter has insufficient permission to accept the invitation.");
         }
 
         Attendee retrievedSubject = attendeeService.getAttendance(subjectId);
+        if (expectedVersion != null && expectedVersion != retrievedSubject.getVersion()) {
+            throw new OptimisticLockingFailureException("Invitation " + subjectId + " was modified in the meantime.");
+        }
         retrievedSubject.setConfirmation(true);
-        return attendeeRepository.save(retrievedSubject);
+        Attendee accepted = attendeeRepository.save(retrievedSubject);
+        permissionCache.evict(accepted.getUser().getId(), accepted.getEvent().getId());
+        return accepted;
     }
 
     /**
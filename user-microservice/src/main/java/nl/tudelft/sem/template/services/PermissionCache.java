@@ -0,0 +1,169 @@
+package nl.tudelft.sem.template.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A memoized store of permission decisions.
+ * <p>
+ * For every (user, event, track) scope it keeps the best, i.e. lowest, ```RoleTitle```
+ * permission the user holds through a confirmed attendance. Decisions are evicted
+ * whenever an attendance of the user within the event is created, modified or removed,
+ * and evicted again once the transaction doing so has completed.
+ * Hit and miss counts are exported under the ```permissions``` cache name.
+ * </p>
+ * <p>
+ * The cached scopes are indexed by their user and event, and by their event alone, so an eviction
+ * only visits the decisions it removes. A decision leaves the indexes together with the cache; it
+ * is removed from them only while it is still the indexed one, so that a decision cached again in
+ * the meantime stays indexed.
+ * </p>
+ */
+@Component
+public class PermissionCache {
+
+    /**
+     * The permission stored for users without any confirmed attendance in the scope.
+     */
+    public static final int NO_PERMISSION = Integer.MAX_VALUE;
+
+    private static final long MAX_DECISIONS = 10_000;
+    private static final Duration DECISION_TTL = Duration.ofMinutes(5);
+
+    // The cached scopes by the scope of their user within their event, and of their event alone
+    private final transient Map<Scope, Map<Scope, Decision>> byUser = new ConcurrentHashMap<>();
+    private final transient Map<Scope, Map<Scope, Decision>> byEvent = new ConcurrentHashMap<>();
+
+    private final transient Cache<Scope, Decision> decisions = Caffeine.newBuilder()
+            .maximumSize(MAX_DECISIONS)
+            .expireAfterWrite(DECISION_TTL)
+            .recordStats()
+            .removalListener((Scope scope, Decision decision, RemovalCause cause) -> {
+                unindex(byUser, new Scope(scope.userId, scope.eventId, null), scope, decision);
+                unindex(byEvent, new Scope(null, scope.eventId, null), scope, decision);
+            })
+            .build();
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param meterRegistry the registry the hit/miss metrics are exported to
+     */
+    @Autowired
+    public PermissionCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, decisions, "permissions");
+    }
+
+    /**
+     * Returns the best permission of the user within the scope, computing it
+     * with the loader if no decision is cached yet.
+     *
+     * @param userId    the user identifier
+     * @param eventId   the event identifier
+     * @param trackId   the track identifier, or null for the whole event
+     * @param loader    computes the permission on a cache miss
+     * @return the lowest permission, or {@link #NO_PERMISSION}.
+     */
+    public int getPermission(Long userId, Long eventId, Long trackId, Supplier<Integer> loader) {
+        return decisions.get(new Scope(userId, eventId, trackId), scope -> {
+            Decision decision = new Decision(loader.get());
+            index(byUser, new Scope(userId, eventId, null), scope, decision);
+            index(byEvent, new Scope(null, eventId, null), scope, decision);
+            return decision;
+        }).permission;
+    }
+
+    /**
+     * Evicts all decisions concerning the user within the event.
+     *
+     * @param userId    the user identifier
+     * @param eventId   the event identifier
+     */
+    public void evict(Long userId, Long eventId) {
+        Scope group = new Scope(userId, eventId, null);
+        evictUntilCompletion(() -> evictGroup(byUser, group));
+    }
+
+    /**
+     * Evicts all decisions concerning the event.
+     *
+     * @param eventId   the event identifier
+     */
+    public void evictEvent(Long eventId) {
+        Scope group = new Scope(null, eventId, null);
+        evictUntilCompletion(() -> evictGroup(byEvent, group));
+    }
+
+    /**
+     * Runs an eviction now and, within a transaction, again once it has completed, so that a
+     * concurrent check cannot cache a decision computed before the transaction committed.
+     */
+    private void evictUntilCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private void evictGroup(Map<Scope, Map<Scope, Decision>> index, Scope group) {
+        Map<Scope, Decision> scopes = index.remove(group);
+        if (scopes != null) {
+            decisions.invalidateAll(scopes.keySet());
+        }
+    }
+
+    private static void index(Map<Scope, Map<Scope, Decision>> index, Scope group, Scope scope, Decision decision) {
+        index.compute(group, (key, scopes) -> {
+            Map<Scope, Decision> indexed = scopes == null ? new ConcurrentHashMap<>() : scopes;
+            indexed.put(scope, decision);
+            return indexed;
+        });
+    }
+
+    private static void unindex(Map<Scope, Map<Scope, Decision>> index, Scope group, Scope scope, Decision decision) {
+        index.computeIfPresent(group, (key, scopes) -> {
+            scopes.remove(scope, decision);
+            return scopes.isEmpty() ? null : scopes;
+        });
+    }
+
+    /**
+     * A cached permission. Every computation gets an instance of its own, by which the indexes
+     * tell it apart from a later decision for the same scope.
+     */
+    @AllArgsConstructor
+    @SuppressWarnings("PMD.BeanMembersShouldSerialize")
+    private static final class Decision {
+        private final int permission;
+    }
+
+    /**
+     * The key of a permission decision.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @SuppressWarnings("PMD.BeanMembersShouldSerialize")
+    private static final class Scope {
+        private final Long userId;
+        private final Long eventId;
+        private final Long trackId;
+    }
+}
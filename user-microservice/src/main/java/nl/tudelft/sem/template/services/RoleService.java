@@ -1,11 +1,8 @@
 package nl.tudelft.sem.template.services;
 
-import java.util.NoSuchElementException;
 import nl.tudelft.sem.template.authentication.AuthManager;
-import nl.tudelft.sem.template.domain.attendee.Attendee;
-import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
 import nl.tudelft.sem.template.domain.user.Email;
-import nl.tudelft.sem.template.domain.user.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
@@ -14,13 +11,23 @@ import org.springframework.stereotype.Service;
 @Service("RoleService")
 @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
 public class RoleService {
-    private final transient UserRepository userRepository;
-    private final transient AttendeeService attendeeService;
+    private final transient UserService userService;
+    private final transient AttendeeRepository attendeeRepository;
+    private final transient PermissionCache permissionCache;
 
+    /**
+     * Instantiates a new role service.
+     *
+     * @param userService           the user service injection, which caches the users by email
+     * @param attendeeRepository    the attendee repository injection
+     * @param permissionCache       the cache of permission decisions
+     */
     @Autowired
-    public RoleService(UserRepository userRepository, AttendeeService attendeeService) {
-        this.userRepository = userRepository;
-        this.attendeeService = attendeeService;
+    public RoleService(UserService userService, AttendeeRepository attendeeRepository,
+                       PermissionCache permissionCache) {
+        this.userService = userService;
+        this.attendeeRepository = attendeeRepository;
+        this.permissionCache = permissionCache;
     }
 
     /**
@@ -34,16 +41,25 @@ public class RoleService {
      */
     public boolean hasPermission(AuthManager authManager,
                                  Long eventId, @Nullable Long trackId, int level) {
-        AppUser user = userRepository.findByEmail(new Email(authManager.getEmail())).orElse(null);
-        if (user == null) {
-            return false;
-        }
-        Attendee role;
-        try {
-            role = attendeeService.getFilteredAttendance(user.getId(), eventId, trackId, true).get(0);
-        } catch (Exception e) {
+        Long userId = userService.getUserIdByEmail(new Email(authManager.getEmail()));
+        if (userId == null) {
             return false;
         }
-        return role.getRole().getRoleTitle().getPermission() <= level;
+        int permission = permissionCache.getPermission(userId, eventId, trackId,
+                () -> bestPermission(userId, eventId, trackId));
+        return permission <= level;
+    }
+
+    /**
+     * Computes the best permission the user holds through its confirmed attendances.
+     *
+     * @param userId    ID of the user
+     * @param eventId   ID of the event
+     * @param trackId   ID of the track (nullable if checking event-level permission).
+     * @return the lowest permission, or {@link PermissionCache#NO_PERMISSION} if the user does not attend.
+     */
+    private int bestPermission(Long userId, Long eventId, @Nullable Long trackId) {
+        return attendeeRepository.findMinimumPermission(userId, eventId, trackId)
+                .orElse(PermissionCache.NO_PERMISSION);
     }
 }
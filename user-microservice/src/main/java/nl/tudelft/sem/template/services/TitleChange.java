@@ -0,0 +1,63 @@
+package nl.tudelft.sem.template.services;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import nl.tudelft.sem.template.domain.attendee.Attendee;
+
+/**
+ * The outcome of changing the role of an attendance.
+ * <p>
+ * A rejected change is an ordinary outcome of a permission check, so it is returned rather than
+ * thrown; the callers that answer requests branch on it without unwinding a stack.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TitleChange {
+
+    /**
+     * What became of a change.
+     */
+    public enum Outcome {
+        // The role has been changed
+        CHANGED,
+        // The attendance does not exist
+        NO_SUCH_ATTENDANCE,
+        // The executor does not exist, or does not attend the event or track of the attendance
+        NO_SUCH_EXECUTOR,
+        // The executor may not affect the role of the attendance
+        INSUFFICIENT_PERMISSION,
+        // The event would be left without a general chair, or get more than two
+        INVALID_GENERAL_CHAIR_COUNT
+    }
+
+    private final transient Outcome outcome;
+
+    // The changed attendance, or null if the change was rejected
+    private final transient Attendee attendee;
+
+    /**
+     * Returns the outcome of a change that has been made.
+     *
+     * @param attendee the changed attendance
+     * @return the outcome.
+     */
+    public static TitleChange changed(Attendee attendee) {
+        return new TitleChange(Outcome.CHANGED, attendee);
+    }
+
+    /**
+     * Returns the outcome of a change that has been rejected.
+     *
+     * @param outcome the reason of the rejection
+     * @return the outcome.
+     */
+    public static TitleChange rejected(Outcome outcome) {
+        return new TitleChange(outcome, null);
+    }
+
+    public boolean isChanged() {
+        return outcome == Outcome.CHANGED;
+    }
+}
@@ -0,0 +1,185 @@
+package nl.tudelft.sem.template.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An in-memory inverted index from search tokens to the entities they occur in.
+ * <p>
+ * Texts are split into lower-case tokens without diacritics, and every entity is indexed under
+ * the weights of its tokens. The tokens are kept sorted, so that all tokens starting with a prefix
+ * are found in a single range. A query matches the entities containing every one of its terms,
+ * either as a whole token or as the prefix of one, and ranks them by the summed weight of the
+ * matched tokens, counting whole tokens ```EXACT_MATCH_FACTOR``` times.
+ * </p>
+ * <p>
+ * Lookups do not lock; modifications are serialized, so that an entity is never indexed under both
+ * its old and its new tokens.
+ * </p>
+ */
+public class TokenIndex {
+
+    private static final int EXACT_MATCH_FACTOR = 2;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    // Orders the matches from the least to the most relevant, ties broken on the identifier
+    private static final Comparator<Map.Entry<Long, Integer>> RELEVANCE = Map.Entry.<Long, Integer>comparingByValue()
+            .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed());
+
+    // Maps every token to the entities it occurs in, and to its weight within them
+    private final transient ConcurrentNavigableMap<String, Map<Long, Integer>> postings =
+            new ConcurrentSkipListMap<>();
+
+    // Maps every indexed entity to its tokens, so that it can be removed from their postings
+    private final transient Map<Long, Set<String>> tokensById = new ConcurrentHashMap<>();
+
+    /**
+     * Splits a text into its search tokens.
+     *
+     * @param text the text, may be null
+     * @return the lower-case tokens of the text without diacritics, in order of occurrence.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARATORS.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds the tokens of a text to the weights of an entity.
+     *
+     * @param weights the weights of the tokens of the entity
+     * @param text    the text, may be null
+     * @param weight  the weight of every occurrence of a token in the text
+     */
+    public static void weigh(Map<String, Integer> weights, Object text, int weight) {
+        if (text != null) {
+            tokenize(text.toString()).forEach(token -> weights.merge(token, weight, Integer::sum));
+        }
+    }
+
+    /**
+     * Indexes an entity, replacing the tokens it was indexed under before.
+     *
+     * @param id      the entity identifier
+     * @param weights the weights of the tokens of the entity
+     */
+    public synchronized void put(Long id, Map<String, Integer> weights) {
+        remove(id);
+        weights.forEach((token, weight) ->
+                postings.computeIfAbsent(token, key -> new ConcurrentHashMap<>()).put(id, weight));
+        tokensById.put(id, weights.keySet());
+    }
+
+    /**
+     * Removes an entity from the index.
+     *
+     * @param id the entity identifier
+     */
+    public synchronized void remove(Long id) {
+        Set<String> tokens = tokensById.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Removes all entities from the index.
+     */
+    public synchronized void clear() {
+        postings.clear();
+        tokensById.clear();
+    }
+
+    /**
+     * Returns the number of indexed entities.
+     *
+     * @return the number of entities.
+     */
+    public int size() {
+        return tokensById.size();
+    }
+
+    /**
+     * Finds the most relevant entities matching every term of a query.
+     *
+     * @param query the query, of which the terms match whole tokens and their prefixes
+     * @param limit the maximum number of entities to return
+     * @return the identifiers of the matching entities, the most relevant first and ties broken on
+     *      the identifier.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = score(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        // Only the best matches are kept, rather than sorting all of them
+        PriorityQueue<Map.Entry<Long, Integer>> best = new PriorityQueue<>(RELEVANCE);
+        for (Map.Entry<Long, Integer> match : scores.entrySet()) {
+            best.offer(match);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    /**
+     * Scores the entities containing a token that is, or starts with, the term.
+     */
+    private Map<Long, Integer> score(String term) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> entry
+                : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            int factor = entry.getKey().equals(term) ? EXACT_MATCH_FACTOR : 1;
+            entry.getValue().forEach((id, weight) -> scores.merge(id, weight * factor, Integer::sum));
+        }
+        return scores;
+    }
+}
@@ -15,6 +15,7 @@ import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.domain.track.TrackRepository;
 import nl.tudelft.sem.template.model.PaperType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Service;
 public class TrackService {
     private final transient TrackRepository trackRepository;
     private final transient EventRepository eventRepository;
+    private final transient EntityCache entityCache;
     private static final String nullTitle = "Null reference for track title";
     private static final String invalidId = "Invalid track id";
     private static final String invalidEventId = "Invalid event id";
@@ -34,11 +36,14 @@ public class TrackService {
      * implementation.
      *
      * @param trackRepository the track repository injection
+     * @param eventRepository the event repository injection
+     * @param entityCache     the cache of tracks looked up by id
      */
     @Autowired
-    public TrackService(TrackRepository trackRepository, EventRepository eventRepository) {
+    public TrackService(TrackRepository trackRepository, EventRepository eventRepository, EntityCache entityCache) {
         this.trackRepository = trackRepository;
         this.eventRepository = eventRepository;
+        this.entityCache = entityCache;
     }
 
     /**
@@ -80,6 +85,7 @@ public class TrackService {
             throw new NoSuchElementException("Track with id:" + id + " does not exist.");
         }
         trackRepository.delete(track.get());
+        entityCache.evictTrack(id);
         return track.get();
     }
 
@@ -92,6 +98,20 @@ public class TrackService {
     public Track updateTrack(Long id, String title, String description, LocalDate submitDeadline,
             LocalDate reviewDeadline, PaperType paperType, Long eventId)
             throws IllegalArgumentException, NoSuchElementException {
+        return updateTrack(id, title, description, submitDeadline, reviewDeadline, paperType, eventId, null);
+    }
+
+    /**
+     * Updates an existing track, provided that it is still at the expected version.
+     *
+     * @param expectedVersion the version the update is based on, or null to update any version
+     * @return the updated track that was saved.
+     * @throws OptimisticLockingFailureException if the track was updated in the meantime
+     */
+    @Transactional
+    public Track updateTrack(Long id, String title, String description, LocalDate submitDeadline,
+            LocalDate reviewDeadline, PaperType paperType, Long eventId, Long expectedVersion)
+            throws IllegalArgumentException, NoSuchElementException {
         if (title == null) {
             throw new IllegalArgumentException(nullTitle);
         }
@@ -99,18 +119,38 @@ public class TrackService {
         if (inDb.isPresent() && !Objects.equals(inDb.get().getId(), id)) {
             throw new IllegalArgumentException("Track with this title already exist in the event.");
         }
-        if (!trackRepository.existsById(id)) {
-            throw new NoSuchElementException("Track with id:" + id + " does not exist.");
+        // Modify the stored track, so that its version is checked and incremented
+        Track track = trackRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Track with id:" + id + " does not exist."));
+        if (expectedVersion != null && expectedVersion != track.getVersion()) {
+            throw new OptimisticLockingFailureException("Track " + id + " was updated in the meantime.");
         }
         Optional<Event> event = eventRepository.findById(eventId);
         if (event.isEmpty()) {
             throw new IllegalArgumentException(invalidEventId);
         }
-        Track track = new Track(id, new Title(title), new Description(description), new PaperRequirement(paperType),
-                submitDeadline, reviewDeadline, event.get());
+        track.setTitle(new Title(title));
+        track.setDescription(new Description(description));
+        track.setPaperType(new PaperRequirement(paperType));
+        track.setSubmitDeadline(submitDeadline);
+        track.setReviewDeadline(reviewDeadline);
+        track.setEvent(event.get());
+        // Track modifications record no logs, so the cached track is evicted here
+        entityCache.evictTrack(id);
         return trackRepository.save(track);
     }
 
+    /**
+     * Retrieves the version of the track with the specified id without loading it.
+     *
+     * @param id - id of a track
+     * @return - the version of the track if it exists, else null
+     */
+    @Transactional
+    public Long getTrackVersion(Long id) {
+        return trackRepository.findVersionById(id).orElse(null);
+    }
+
     /**
      * Retrieves the track with the specified id.
      *
@@ -121,12 +161,12 @@ public class TrackService {
         if (id < 0) {
             throw new IllegalArgumentException(invalidId);
         }
-        Optional<Track> track = trackRepository.findById(id);
-        if (track.isEmpty()) {
+        Track track = entityCache.getTrack(id, () -> trackRepository.findById(id).orElse(null));
+        if (track == null) {
             throw new NoSuchElementException("Track with ID: " + id + " does not exist.");
         }
 
-        return track.get();
+        return track;
     }
 
     /**
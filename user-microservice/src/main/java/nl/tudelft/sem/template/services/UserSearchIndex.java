@@ -0,0 +1,127 @@
+package nl.tudelft.sem.template.services;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.user.UserLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A type-ahead index over the names, emails and affiliations of the users.
+ * <p>
+ * A token in the first or last name weighs ```NAME_WEIGHT```, one in the email ```EMAIL_WEIGHT```
+ * and one in the affiliation ```AFFILIATION_WEIGHT```; see ```TokenIndex``` for how queries are
+ * matched and ranked. Since every term also matches as a prefix, a partially typed name already
+ * finds its users.
+ * </p>
+ * <p>
+ * The index is built from the database once the application is ready, ```REBUILD_BATCH_SIZE```
+ * users at a time, and kept up to date from the logs of the users once their transaction has
+ * committed. Removals do not record a log, so the services remove removed users themselves.
+ * </p>
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final int NAME_WEIGHT = 4;
+    private static final int EMAIL_WEIGHT = 2;
+    private static final int AFFILIATION_WEIGHT = 1;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final transient UserRepository userRepository;
+    private final transient TokenIndex index = new TokenIndex();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param userRepository the repository the index is built from
+     */
+    @Autowired
+    public UserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Rebuilds the index from all stored users.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        index.clear();
+        Pageable batch = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+        Page<AppUser> users;
+        do {
+            users = userRepository.findAll(batch);
+            users.forEach(this::put);
+            batch = users.nextPageable();
+        } while (users.hasNext());
+    }
+
+    /**
+     * Re-indexes the subject of a user log once the transaction that recorded it has committed.
+     *
+     * @param log the published log
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void reindex(Log log) {
+        if (log instanceof UserLog) {
+            put(((UserLog) log).getSubject());
+        }
+    }
+
+    /**
+     * Indexes a user, replacing the tokens it was indexed under before.
+     *
+     * @param user the user
+     */
+    public void put(AppUser user) {
+        Map<String, Integer> weights = new HashMap<>();
+        TokenIndex.weigh(weights, user.getFirstName(), NAME_WEIGHT);
+        TokenIndex.weigh(weights, user.getLastName(), NAME_WEIGHT);
+        TokenIndex.weigh(weights, user.getEmail(), EMAIL_WEIGHT);
+        TokenIndex.weigh(weights, user.getAffiliation(), AFFILIATION_WEIGHT);
+        index.put(user.getId(), weights);
+    }
+
+    /**
+     * Removes a removed user from the index once its transaction has committed.
+     *
+     * @param id the user identifier
+     */
+    public void removeAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.remove(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                index.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Finds the users best matching every term of a query.
+     *
+     * @param query the query, of which the terms match whole words and their prefixes
+     * @param limit the maximum number of users to return
+     * @return the identifiers of the matching users, the most relevant first.
+     */
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+}
@@ -1,21 +1,49 @@
 package nl.tudelft.sem.template.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.persistence.EntityExistsException;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.domain.user.UserRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 
 @Service
 public class UserService {
+    private static final long MAX_CACHED_PRINCIPALS = 10_000;
+    private static final Duration PRINCIPAL_TTL = Duration.ofSeconds(30);
+
     private final transient UserRepository userRepository;
+    private final transient EntityCache entityCache;
+    private final transient UserSearchIndex userSearchIndex;
+
+    // Maps the email of an authenticated principal to the identifier of its user
+    private final transient Cache<String, Long> userIds = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_PRINCIPALS)
+            .expireAfterWrite(PRINCIPAL_TTL)
+            .build();
 
-    public UserService(UserRepository userRepository) {
+    /**
+     * Instantiates the service.
+     *
+     * @param userRepository - the repository of the users
+     * @param entityCache - the cache of the users looked up by id
+     * @param userSearchIndex - the index of the users looked up by (parts of) their details
+     */
+    public UserService(UserRepository userRepository, EntityCache entityCache, UserSearchIndex userSearchIndex) {
         this.userRepository = userRepository;
+        this.entityCache = entityCache;
+        this.userSearchIndex = userSearchIndex;
     }
 
     /**
@@ -38,22 +66,29 @@ public class UserService {
     }
 
     /**
-     * Retrieves the user with the specified id.
+     * Retrieves the user with the specified id, from the entity cache if possible.
      *
      * @param userId - id of a user
      * @return - user with this id if exists, else null
      */
     public AppUser getUserById(long userId) {
-        if (userRepository.findById(userId).isPresent()) {
-            return userRepository.findById(userId).get();
-        }
-        return null;
+        return entityCache.getUser(userId, () -> userRepository.findById(userId).orElse(null));
     }
 
     public boolean userExistsById(long userId) {
         return userRepository.existsById(userId);
     }
 
+    /**
+     * Retrieves the version of the user with the specified id without loading it.
+     *
+     * @param userId - id of a user
+     * @return - the version of the user if it exists, else null
+     */
+    public Long getUserVersion(Long userId) {
+        return userRepository.findVersionById(userId).orElse(null);
+    }
+
 
     /**
      * Retrieves a list of users with the specified name.
@@ -66,6 +101,20 @@ public class UserService {
         return userRepository.findByFirstNameAndLastName(new Name(firstName), new Name(lastName));
     }
 
+    /**
+     * Retrieves the users best matching a partially typed query, for instance to invite them.
+     *
+     * @param query - the words, or beginnings of words, in the names, email or affiliation of the users
+     * @param limit - the maximum number of users to retrieve
+     * @return - the matching users, the most relevant first
+     */
+    public List<AppUser> searchUsers(String query, int limit) {
+        List<Long> ids = userSearchIndex.search(query, limit);
+        Map<Long, AppUser> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AppUser::getId, Function.identity()));
+        return ids.stream().map(users::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     /**
      * Retrieves the user with the specified email.
      *
@@ -73,10 +122,27 @@ public class UserService {
      * @return - user with this email if exists, else null
      */
     public AppUser getUserByEmail(Email email) {
-        if (userRepository.findByEmail(email).isPresent()) {
-            return userRepository.findByEmail(email).get();
+        return userRepository.findByEmail(email).orElse(null);
+    }
+
+    /**
+     * Retrieves the identifier of the user with the specified email. Resolved
+     * identifiers are cached for a short while, and are evicted as soon as the
+     * user changes its email or is deleted.
+     *
+     * @param email - email of a user
+     * @return - id of the user with this email if exists, else null
+     */
+    public Long getUserIdByEmail(Email email) {
+        String key = email.toString();
+        Long userId = userIds.getIfPresent(key);
+        if (userId == null) {
+            userId = userRepository.findByEmail(email).map(AppUser::getId).orElse(null);
+            if (userId != null) {
+                userIds.put(key, userId);
+            }
         }
-        return null;
+        return userId;
     }
 
     /**
@@ -105,10 +171,14 @@ public class UserService {
         if (userId < 0) {
             throw new IllegalArgumentException("Invalid user data");
         }
-        if (getUserById(userId) == null) {
+        AppUser user = getUserById(userId);
+        if (user == null) {
             throw new NoSuchElementException("User not found");
         }
         userRepository.deleteById(userId);
+        userIds.invalidate(String.valueOf(user.getEmail()));
+        entityCache.evictUser(userId);
+        userSearchIndex.removeAfterCommit(userId);
     }
 
     /**
@@ -118,6 +188,18 @@ public class UserService {
      * @return the updated user account that was saved.
      */
     public AppUser updateUser(AppUser updatedUser) {
+        return updateUser(updatedUser, null);
+    }
+
+    /**
+     * Updates an existing user account, provided that it is still at the expected version.
+     *
+     * @param updatedUser - the updated user account to be saved.
+     * @param expectedVersion - the version the update is based on, or null to update any version
+     * @return the updated user account that was saved.
+     * @throws OptimisticLockingFailureException if the user was updated in the meantime
+     */
+    public AppUser updateUser(AppUser updatedUser, Long expectedVersion) {
         if (updatedUser == null) {
             throw new IllegalArgumentException("Invalid user data");
         }
@@ -125,6 +207,10 @@ public class UserService {
         // throw an IllegalArgumentException.
         AppUser existingUser = userRepository.findById(updatedUser.getId())
                 .orElseThrow(() -> new NoSuchElementException("User not found"));
+        if (expectedVersion != null && expectedVersion != existingUser.getVersion()) {
+            throw new OptimisticLockingFailureException("User " + existingUser.getId() + " was updated in the meantime.");
+        }
+        String previousEmail = String.valueOf(existingUser.getEmail());
 
         // Update the user properties
         existingUser.setFirstName(updatedUser.getFirstName());
@@ -134,7 +220,10 @@ public class UserService {
         existingUser.setEmail(updatedUser.getEmail());
         existingUser.setLink(updatedUser.getLink());
 
-        // Save the updated user to the database and return
-        return userRepository.save(existingUser);
+        // Save the updated user to the database and forget the previous principal
+        AppUser savedUser = userRepository.save(existingUser);
+        userIds.invalidate(previousEmail);
+        userIds.invalidate(String.valueOf(savedUser.getEmail()));
+        return savedUser;
     }
 }
@@ -0,0 +1,48 @@
+-- The schema previously generated by hibernate (ddl-auto=create-drop).
+
+CREATE TABLE users (
+    id            BIGINT AUTO_INCREMENT NOT NULL,
+    email         VARCHAR(255)          NOT NULL,
+    first_name    VARCHAR(255)          NOT NULL,
+    last_name     VARCHAR(255)          NOT NULL,
+    affiliation   VARCHAR(255),
+    link          VARCHAR(255),
+    communication VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE events (
+    id           BIGINT AUTO_INCREMENT NOT NULL,
+    start_date   TIMESTAMP             NOT NULL,
+    end_date     TIMESTAMP             NOT NULL,
+    is_cancelled BOOLEAN               NOT NULL,
+    name         VARCHAR(255)          NOT NULL,
+    description  VARCHAR(255)          NOT NULL,
+    CONSTRAINT pk_events PRIMARY KEY (id)
+);
+
+CREATE TABLE tracks (
+    id              BIGINT AUTO_INCREMENT NOT NULL,
+    title           VARCHAR(255)          NOT NULL,
+    description     VARCHAR(255)          NOT NULL,
+    paper_type      VARCHAR(255)          NOT NULL,
+    submit_deadline TIMESTAMP             NOT NULL,
+    review_deadline TIMESTAMP             NOT NULL,
+    event_id        BIGINT,
+    CONSTRAINT pk_tracks PRIMARY KEY (id),
+    CONSTRAINT fk_tracks_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE TABLE attendees (
+    id           BIGINT AUTO_INCREMENT NOT NULL,
+    role         VARCHAR(255)          NOT NULL,
+    confirmation VARCHAR(255)          NOT NULL,
+    event_id     BIGINT,
+    track_id     BIGINT,
+    user_id      BIGINT,
+    CONSTRAINT pk_attendees PRIMARY KEY (id),
+    CONSTRAINT fk_attendees_event FOREIGN KEY (event_id) REFERENCES events (id),
+    CONSTRAINT fk_attendees_track FOREIGN KEY (track_id) REFERENCES tracks (id),
+    CONSTRAINT fk_attendees_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,13 @@
+-- Indexes backing the attendance, track and event lookups.
+
+-- existsByUserIdAndEventIdAndTrackId; one attendance per user, event and track.
+ALTER TABLE attendees ADD CONSTRAINT uk_attendees_user_event_track UNIQUE (user_id, event_id, track_id);
+
+-- Confirmed attendances of an event.
+CREATE INDEX idx_attendees_event_confirmation ON attendees (event_id, confirmation);
+
+-- findByTitleAndEventId and findByEventId.
+CREATE INDEX idx_tracks_event_title ON tracks (event_id, title);
+
+-- Event searches on their start date.
+CREATE INDEX idx_events_start_date ON events (start_date);
@@ -0,0 +1,7 @@
+-- Identifiers are drawn from pooled sequences (allocationSize 50) instead of
+-- identity columns, which lets hibernate batch inserts.
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE events_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tracks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE attendees_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- Every entity carries a version that is incremented on each update. It backs
+-- the optimistic locking of concurrent updates and the ETags of the read
+-- end-points.
+
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE events ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tracks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE attendees ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,8 @@
+-- Event searches only filter on the criteria that are supplied, so each
+-- criterion can be answered from an index of its own.
+
+-- Event searches on their end date.
+CREATE INDEX idx_events_end_date ON events (end_date);
+
+-- Event searches on their name.
+CREATE INDEX idx_events_name ON events (name);
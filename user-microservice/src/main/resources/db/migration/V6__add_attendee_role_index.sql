@@ -0,0 +1,3 @@
+-- Attendances of an event by role, so that the general chairs of an event are counted from the
+-- index alone.
+CREATE INDEX idx_attendees_event_role ON attendees (event_id, role, confirmation);
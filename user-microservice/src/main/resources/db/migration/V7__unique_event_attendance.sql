@@ -0,0 +1,5 @@
+-- One attendance per user and event as well: a unique constraint never considers two NULL
+-- track_id values equal, so event-wide attendances are keyed on a track id of 0, which no
+-- track has. Attendance creation relies on this constraint instead of checking beforehand.
+ALTER TABLE attendees ADD COLUMN track_key BIGINT AS COALESCE(track_id, 0);
+ALTER TABLE attendees ADD CONSTRAINT uk_attendees_user_event_track_key UNIQUE (user_id, event_id, track_key);
@@ -0,0 +1,2 @@
+-- The description of an event is optional, as in the API and the entity mapping.
+ALTER TABLE events ALTER COLUMN description SET NULL;
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,7 +12,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.NoSuchElementException;
 import javax.persistence.EntityExistsException;
-import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
 import nl.tudelft.sem.template.controllers.UserController;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Communication;
@@ -46,7 +47,7 @@ public class UserControllerTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private AuthManager authManager;
+    private PrincipalResolver principalResolver;
 
     @InjectMocks
     private UserController userController;
@@ -65,7 +66,7 @@ public class UserControllerTest {
         Link link = new Link("link");
         Communication communication = new Communication("communication");
         appUser = new AppUser(id, email, name, name, affiliation, link, communication);
-        when(authManager.getEmail()).thenReturn("test@test.net");
+        when(principalResolver.getUserId()).thenReturn(1L);
     }
 
     /**
@@ -73,8 +74,8 @@ public class UserControllerTest {
      */
     @Test
     public void getUserByIdUnauthorized() {
-        when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(null);
-        assertEquals(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(), userController.getAccountByID(2115L));
+        when(principalResolver.getUserId()).thenReturn(null);
+        assertEquals(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(), userController.getAccountByID(2115L, null));
     }
 
     /**
@@ -82,9 +83,8 @@ public class UserControllerTest {
      */
     @Test
     public void getUserByIdUserNonexistent() {
-        when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(appUser);
-        when(userService.userExistsById(anyLong())).thenReturn(false);
-        assertEquals(ResponseEntity.status(HttpStatus.NOT_FOUND).build(), userController.getAccountByID(0L));
+        when(userService.getUserById(anyLong())).thenReturn(null);
+        assertEquals(ResponseEntity.status(HttpStatus.NOT_FOUND).build(), userController.getAccountByID(0L, null));
     }
 
     /**
@@ -92,20 +92,17 @@ public class UserControllerTest {
      */
     @Test
     public void getUserByIdUserExists() {
-        when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(appUser);
-        when(userService.userExistsById(eq(1L))).thenReturn(true);
         when(userService.getUserById(eq(1L))).thenReturn(appUser);
-        assertEquals(appUser.toModelUser(), userController.getAccountByID(1L).getBody());
+        assertEquals(appUser.toModelUser(), userController.getAccountByID(1L, null).getBody());
     }
 
     @Test
     public void getAccountByEmailUserExists() {
-        when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(appUser);
-        when(userService.userExistsByEmail(any())).thenReturn(true);
+        when(userService.getUserByEmail(any())).thenReturn(appUser);
         assertEquals(appUser.toModelUser(),
                 userController.getAccountByEmail(appUser.getEmail().toString()).getBody());
-        verify(userService, times(1)).userExistsByEmail(any());
-        verify(userService, times(2)).getUserByEmail(any());
+        verify(principalResolver, times(1)).getUserId();
+        verify(userService, times(1)).getUserByEmail(any());
     }
 
     @Test
@@ -116,19 +113,17 @@ public class UserControllerTest {
 
     @Test
     public void getAccountByEmailUnauthorized() {
-        when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(null);
+        when(principalResolver.getUserId()).thenReturn(null);
         assertEquals(HttpStatus.UNAUTHORIZED, userController.getAccountByEmail("test@test.nl").getStatusCode());
-        verify(userService, times(1)).getUserByEmail(any());
+        verify(principalResolver, times(1)).getUserId();
 
     }
 
     @Test
     public void getAccountByEmailNonExistent() {
-        when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(appUser);
-        when(userService.userExistsByEmail(any())).thenReturn(false);
+        when(userService.getUserByEmail(any())).thenReturn(null);
         assertEquals(ResponseEntity.status(HttpStatus.NOT_FOUND).build(),
                 userController.getAccountByEmail(appUser.getEmail().toString()));
-        verify(userService, times(1)).userExistsByEmail(any());
         verify(userService, times(1)).getUserByEmail(any());
     }
 
@@ -145,7 +140,6 @@ public class UserControllerTest {
     @Test
     public void createAccountNullEmail() {
         Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
         when(userService.userExistsByEmail(eq(email))).thenReturn(true);
 
         appUser.setEmail(new Email("noEmail"));
@@ -168,7 +162,6 @@ public class UserControllerTest {
 
     @Test
     public void createAccountUserAlreadyExists() {
-        when(authManager.getEmail()).thenReturn(appUser.getEmail().toString());
         when(userService.userExistsByEmail(eq(appUser.getEmail()))).thenReturn(true);
         when(userService.createUser(eq(appUser))).thenThrow(new EntityExistsException("User already exists"));
         assertEquals(ResponseEntity.status(409).build(),
@@ -180,63 +173,42 @@ public class UserControllerTest {
         userRepository.save(appUser);
         User modelUser = appUser.toModelUser();
 
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-
         assertEquals(ResponseEntity.status(HttpStatus.NO_CONTENT).build(),
-                userController.updateAccount(modelUser));
+                userController.updateAccount(modelUser, null));
     }
 
     @Test
     public void updateAccountUserNonExistent() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-        when(userService.updateUser(eq(appUser))).thenThrow(new NoSuchElementException());
+        when(userService.updateUser(eq(appUser), isNull())).thenThrow(new NoSuchElementException());
         User modelUser = appUser.toModelUser();
         assertEquals(ResponseEntity.status(HttpStatus.NOT_FOUND).build(),
-                userController.updateAccount(modelUser));
+                userController.updateAccount(modelUser, null));
     }
 
     @Test
     public void updateAccountUserUnauthorized() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(false);
+        when(principalResolver.getUserId()).thenReturn(null);
 
         User modelUser = appUser.toModelUser();
         assertEquals(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(),
-                userController.updateAccount(modelUser));
+                userController.updateAccount(modelUser, null));
 
     }
 
     @Test
     public void updateAccountUserNull() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-
         assertEquals(ResponseEntity.status(HttpStatus.BAD_REQUEST).build(),
-                userController.updateAccount(null));
+                userController.updateAccount(null, null));
     }
 
     @Test
     public void deleteAccountValid() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-        when(userService.getUserByEmail(eq(email))).thenReturn(appUser);
         assertEquals(ResponseEntity.status(HttpStatus.NO_CONTENT).build(),
                 userController.deleteAccount(appUser.getId()));
     }
 
     @Test
     public void deleteAccountInvalidUser() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-        when(userService.getUserByEmail(eq(email))).thenReturn(appUser);
         doThrow(new IllegalArgumentException()).when(userService).deleteUser(appUser.getId());
         assertEquals(ResponseEntity.status(HttpStatus.BAD_REQUEST).build(),
                 userController.deleteAccount(appUser.getId()));
@@ -244,10 +216,6 @@ public class UserControllerTest {
 
     @Test
     public void deleteAccountUserNonExistent() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-        when(userService.getUserByEmail(eq(email))).thenReturn(appUser);
         doThrow(new NoSuchElementException()).when(userService).deleteUser(appUser.getId());
         assertEquals(ResponseEntity.status(HttpStatus.NOT_FOUND).build(),
                 userController.deleteAccount(appUser.getId()));
@@ -255,27 +223,20 @@ public class UserControllerTest {
 
     @Test
     public void deleteAccountUserUnauthorized() {
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(false);
+        when(principalResolver.getUserId()).thenReturn(null);
         ResponseEntity<Void> response = userController.deleteAccount(appUser.getId());
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(eq(appUser.getEmail()));
+        verify(principalResolver, times(1)).getUserId();
 
     }
 
     @Test
     public void deleteAccountUserUnauthorized2() {
         AppUser user2 = new AppUser(2L);
-        Email email = appUser.getEmail();
-        when(authManager.getEmail()).thenReturn(email.toString());
-        when(userService.userExistsByEmail(eq(email))).thenReturn(true);
-        when(userService.getUserByEmail(email)).thenReturn(user2);
+        when(principalResolver.getUserId()).thenReturn(user2.getId());
         ResponseEntity<Void> response = userController.deleteAccount(appUser.getId());
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(eq(appUser.getEmail()));
+        verify(principalResolver, times(1)).getUserId();
 
     }
 
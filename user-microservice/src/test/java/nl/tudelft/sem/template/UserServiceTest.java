@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.NoSuchElementException;
 import javax.persistence.EntityExistsException;
 import nl.tudelft.sem.template.domain.user.AppUser;
@@ -15,6 +16,8 @@ import nl.tudelft.sem.template.domain.user.Link;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.domain.user.UserAffiliation;
 import nl.tudelft.sem.template.help.UserRepositoryTest;
+import nl.tudelft.sem.template.services.EntityCache;
+import nl.tudelft.sem.template.services.UserSearchIndex;
 import nl.tudelft.sem.template.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +45,8 @@ public class UserServiceTest {
     @BeforeEach
     public void setup() {
         userRepository = new UserRepositoryTest();
-        userService = new UserService(userRepository);
+        userService = new UserService(userRepository, new EntityCache(new SimpleMeterRegistry()),
+                new UserSearchIndex(userRepository));
         Long id = 1L;
         email = new Email("abc@fun.org");
         Name name = new Name("user");
@@ -169,6 +173,25 @@ public class UserServiceTest {
         assertNull(userService.getUserByEmail(new Email("abc@fun.org")));
     }
 
+    @Test
+    public void getUserIdByEmailIsCached() {
+        userRepository.save(appUser);
+        assertEquals(1L, userService.getUserIdByEmail(email));
+
+        // Bypass the service, so only the cached identifier is left
+        userRepository.deleteById(1L);
+        assertEquals(1L, userService.getUserIdByEmail(email));
+    }
+
+    @Test
+    public void getUserIdByEmailEvictedOnDelete() {
+        userRepository.save(appUser);
+        assertEquals(1L, userService.getUserIdByEmail(email));
+
+        userService.deleteUser(1L);
+        assertNull(userService.getUserIdByEmail(email));
+    }
+
     @Test
     public void updateNullUser() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -91,6 +91,38 @@ public class JwtTokenVerifierTests {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void repeatedTokenIsServedFromCache() throws NoSuchFieldException, IllegalAccessException {
+        // Arrange
+        String expected = "user123";
+        String token = generateToken(secret, expected, -10_000_000, 10_000_000);
+        jwtTokenVerifier.validateToken(token);
+
+        // A changed secret can only be ignored if the token is not parsed again
+        this.injectSecret("anotherSecret");
+
+        // Act
+        String actual = jwtTokenVerifier.getNetIdFromToken(token);
+
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void differentTokenIsVerifiedAgain() {
+        // Arrange
+        String token = generateToken(secret, "user123", -10_000_000, 10_000_000);
+        String forged = generateToken("incorrectSecret", "user123", -10_000_000, 10_000_000);
+        jwtTokenVerifier.validateToken(token);
+
+        // Act
+        ThrowableAssert.ThrowingCallable action = () -> jwtTokenVerifier.validateToken(forged);
+
+        // Assert
+        assertThatExceptionOfType(SignatureException.class)
+                .isThrownBy(action);
+    }
+
     private String generateToken(String jwtSecret, String netid, long issuanceOffset, long expirationOffset) {
         Map<String, Object> claims = new HashMap<>();
         return Jwts.builder().setClaims(claims).setSubject(netid)
@@ -57,6 +57,16 @@ public class UserRepositoryTest implements UserRepository {
         return matching;
     }
 
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        for (AppUser user : users) {
+            if (user.getId().equals(id)) {
+                return Optional.of(user.getVersion());
+            }
+        }
+        return Optional.empty();
+    }
+
     @Override
     public <S extends AppUser> Optional<S> findOne(Example<S> example) {
         return Optional.empty();
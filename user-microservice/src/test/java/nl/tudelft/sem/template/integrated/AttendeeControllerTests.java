@@ -1,15 +1,24 @@
 package nl.tudelft.sem.template.integrated;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.Application;
 import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.config.NdjsonHttpMessageConverter;
 import nl.tudelft.sem.template.controllers.AttendeeController;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
@@ -37,12 +46,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 
 
@@ -52,6 +66,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @SpringBootTest(classes = Application.class)
 @ActiveProfiles("test")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+// The requester is resolved through the mocked AuthManager instead of a token
+@AutoConfigureMockMvc(addFilters = false)
 public class AttendeeControllerTests {
 
     @MockBean
@@ -73,6 +89,15 @@ public class AttendeeControllerTests {
     @InjectMocks
     private transient AttendeeController attendeeController;
 
+    @Autowired
+    private transient RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    private transient MockMvc mockMvc;
+
+    @Autowired
+    private transient ObjectMapper objectMapper;
+
     static nl.tudelft.sem.template.domain.event.Event event;
     static nl.tudelft.sem.template.domain.user.AppUser user;
     static nl.tudelft.sem.template.domain.track.Track track;
@@ -112,7 +137,7 @@ public class AttendeeControllerTests {
         assertEquals(HttpStatus.UNAUTHORIZED, response2.getStatusCode());
         var response3 = attendeeController.getAttendeeByID(1L);
         assertEquals(HttpStatus.UNAUTHORIZED, response3.getStatusCode());
-        var response4 = attendeeController.getFilteredAttendees(null, null, null);
+        var response4 = attendeeController.getFilteredAttendees(null, null, null, null, null);
         assertEquals(HttpStatus.UNAUTHORIZED, response4.getStatusCode());
         var response5 = attendeeController.updateAttendee(attendee.toModel());
         assertEquals(HttpStatus.UNAUTHORIZED, response5.getStatusCode());
@@ -210,11 +235,11 @@ public class AttendeeControllerTests {
     public void getFilteredAttendeesTest() {
         user = userRepository.save(user);
         // Null arguments
-        var response1 = attendeeController.getFilteredAttendees(null, null, null);
+        var response1 = attendeeController.getFilteredAttendees(null, null, null, null, null);
         assertEquals(HttpStatus.BAD_REQUEST, response1.getStatusCode());
 
         // Not found
-        var response2 = attendeeController.getFilteredAttendees(1L, null, null);
+        var response2 = attendeeController.getFilteredAttendees(1L, null, null, null, null);
         assertEquals(HttpStatus.NOT_FOUND, response2.getStatusCode());
 
         // Null roles
@@ -226,7 +251,7 @@ public class AttendeeControllerTests {
 
         attendee = attendeeRepository.save(attendee);
 
-        var response3 = attendeeController.getFilteredAttendees(event.getId(), null, track.getId());
+        var response3 = attendeeController.getFilteredAttendees(event.getId(), null, track.getId(), null, null);
         assertEquals(HttpStatus.OK, response3.getStatusCode());
         assertEquals(response3.getBody().size(), 1);
         assertEquals(response3.getBody().get(0).getId(), attendee.getId());
@@ -234,7 +259,7 @@ public class AttendeeControllerTests {
         // Empty Roles
         var response4 = attendeeController
                 .getFilteredAttendees(event.getId(),
-                        new ArrayList<nl.tudelft.sem.template.model.Role>(), track.getId());
+                        new ArrayList<nl.tudelft.sem.template.model.Role>(), track.getId(), null, null);
         assertEquals(HttpStatus.OK, response4.getStatusCode());
         assertEquals(response3.getBody().size(), 1);
         assertEquals(response3.getBody().get(0).getId(), attendee.getId());
@@ -242,13 +267,13 @@ public class AttendeeControllerTests {
         // Incompatible Role
         var rolesList1 = new ArrayList<nl.tudelft.sem.template.model.Role>();
         rolesList1.add(nl.tudelft.sem.template.model.Role.AUTHOR);
-        var response5 = attendeeController.getFilteredAttendees(event.getId(), rolesList1, track.getId());
+        var response5 = attendeeController.getFilteredAttendees(event.getId(), rolesList1, track.getId(), null, null);
         assertEquals(HttpStatus.NOT_FOUND, response5.getStatusCode());
 
         // Compatible Roles
         var rolesList2 = new ArrayList<nl.tudelft.sem.template.model.Role>();
         rolesList2.add(nl.tudelft.sem.template.model.Role.PC_CHAIR);
-        var response6 = attendeeController.getFilteredAttendees(event.getId(), rolesList2, track.getId());
+        var response6 = attendeeController.getFilteredAttendees(event.getId(), rolesList2, track.getId(), null, null);
         assertEquals(HttpStatus.OK, response6.getStatusCode());
         assertEquals(response3.getBody().size(), 1);
         assertEquals(response3.getBody().get(0).getId(), attendee.getId());
@@ -306,4 +331,86 @@ public class AttendeeControllerTests {
         var response10 = attendeeController.createAttendee(model);
         assertEquals(HttpStatus.CONFLICT, response10.getStatusCode());
     }
+
+    @Test
+    public void getFilteredAttendeesPagedTest() {
+        user = userRepository.save(user);
+        var other = userRepository.save(new AppUser(new Email("other@test.net"), new Name("name"), new Name("name")));
+        event = eventRepository.save(event);
+        track = trackRepository.save(track);
+        var first = attendeeRepository.save(new Attendee(new Role(RoleTitle.PC_CHAIR),
+                new Confirmation(true), event, track, user));
+        var second = attendeeRepository.save(new Attendee(new Role(RoleTitle.PC_MEMBER),
+                new Confirmation(true), event, track, other));
+        var third = attendeeRepository.save(new Attendee(new Role(RoleTitle.ATTENDEE),
+                new Confirmation(true), event, null, user));
+        attendeeRepository.save(new Attendee(new Role(RoleTitle.AUTHOR),
+                new Confirmation(false), event, null, other));
+
+        // Invalid limit
+        var response1 = attendeeController.getFilteredAttendees(event.getId(), null, null, 0, null);
+        assertEquals(HttpStatus.BAD_REQUEST, response1.getStatusCode());
+
+        // First page
+        var response2 = attendeeController.getFilteredAttendees(event.getId(), null, null, 2, null);
+        assertEquals(HttpStatus.OK, response2.getStatusCode());
+        assertEquals(2, response2.getBody().size());
+        assertEquals(first.getId(), response2.getBody().get(0).getId());
+        assertEquals(second.getId(), response2.getBody().get(1).getId());
+        assertEquals(String.valueOf(second.getId()), response2.getHeaders().getFirst("X-Next-Cursor"));
+
+        // Last page, unconfirmed attendances are left out
+        var response3 = attendeeController.getFilteredAttendees(event.getId(), null, null, 2, second.getId());
+        assertEquals(HttpStatus.OK, response3.getStatusCode());
+        assertEquals(1, response3.getBody().size());
+        assertEquals(third.getId(), response3.getBody().get(0).getId());
+        assertFalse(response3.getHeaders().containsKey("X-Next-Cursor"));
+
+        // Role filter
+        var rolesList = new ArrayList<nl.tudelft.sem.template.model.Role>();
+        rolesList.add(nl.tudelft.sem.template.model.Role.PC_MEMBER);
+        rolesList.add(nl.tudelft.sem.template.model.Role.ATTENDEE);
+        var response4 = attendeeController.getFilteredAttendees(event.getId(), rolesList, null, null, null);
+        assertEquals(HttpStatus.OK, response4.getStatusCode());
+        assertEquals(2, response4.getBody().size());
+        assertEquals(second.getId(), response4.getBody().get(0).getId());
+        assertEquals(third.getId(), response4.getBody().get(1).getId());
+    }
+
+    @Test
+    public void ndjsonIsOnlyWrittenToClientsNotAcceptingJsonTest() {
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        int json = IntStream.range(0, converters.size())
+                .filter(i -> converters.get(i) instanceof MappingJackson2HttpMessageConverter).findFirst().orElseThrow();
+        int ndjson = IntStream.range(0, converters.size())
+                .filter(i -> converters.get(i) instanceof NdjsonHttpMessageConverter).findFirst().orElseThrow();
+        assertTrue(json < ndjson);
+    }
+
+    @Test
+    public void getFilteredAttendeesAsNdjsonTest() throws Exception {
+        user = userRepository.save(user);
+        event = eventRepository.save(event);
+        track = trackRepository.save(track);
+        var first = attendeeRepository.save(new Attendee(new Role(RoleTitle.PC_CHAIR),
+                new Confirmation(true), event, track, user));
+        var second = attendeeRepository.save(new Attendee(new Role(RoleTitle.ATTENDEE),
+                new Confirmation(true), event, null, user));
+
+        String body = mockMvc.perform(get("/attendee").param("eventId", String.valueOf(event.getId()))
+                        .accept(NdjsonHttpMessageConverter.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NdjsonHttpMessageConverter.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // One attendee object per line, in the order of the page
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertTrue(firstLine.isObject());
+        assertTrue(secondLine.isObject());
+        assertEquals(first.getId(), firstLine.get("id").asLong());
+        assertEquals(second.getId(), secondLine.get("id").asLong());
+    }
 }
@@ -10,9 +10,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
 import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
+import nl.tudelft.sem.template.domain.attendee.Confirmation;
+import nl.tudelft.sem.template.domain.attendee.Role;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.EventDescription;
 import nl.tudelft.sem.template.domain.event.EventName;
@@ -31,6 +42,10 @@ import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.model.PaperType;
 import nl.tudelft.sem.template.services.AttendeeService;
 import nl.tudelft.sem.template.services.InvitationService;
+import nl.tudelft.sem.template.services.TitleChange;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,6 +84,9 @@ public class AttendeeServiceTests {
     @Autowired
     private transient TrackRepository trackRepository;
 
+    @Autowired
+    private transient EntityManagerFactory entityManagerFactory;
+
     static AppUser user;
     static AppUser user2;
     static AppUser user3;
@@ -234,6 +252,55 @@ public class AttendeeServiceTests {
         });
     }
 
+    @Test
+    public void getFilteredAttendanceSingleStatementTest() {
+
+        // Given
+        user = userRepository.save(user);
+        user2 = userRepository.save(user2);
+        user3 = userRepository.save(user3);
+        event = eventRepository.save(event);
+        track = trackRepository.save(track);
+        attendeeService.createAttendance(user.getId(), event.getId(), track.getId(), RoleTitle.ATTENDEE, true);
+        attendeeService.createAttendance(user2.getId(), event.getId(), track.getId(), RoleTitle.PC_MEMBER, true);
+        attendeeService.createAttendance(user3.getId(), event.getId(), track.getId(), RoleTitle.AUTHOR, true);
+
+        // Listing and modelling the attendances costs one statement
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var list = attendeeService.getFilteredAttendance(null, event.getId(), null, true);
+        var models = list.stream().map(Attendee::toModel).collect(Collectors.toList());
+        assertEquals(3, models.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        for (Attendee attendee : list) {
+            assertTrue(Hibernate.isInitialized(attendee.getUser()));
+            assertTrue(Hibernate.isInitialized(attendee.getEvent()));
+            assertTrue(Hibernate.isInitialized(attendee.getTrack()));
+        }
+    }
+
+    @Test
+    public void saveAllIsBatchedTest() {
+
+        // Given an attendance of the event for each of 120 users
+        event = eventRepository.save(event);
+        List<AppUser> users = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            users.add(new AppUser(new Email("user" + i + "@test.test"), new Name("name"), new Name("name")));
+        }
+        List<Attendee> attendees = new ArrayList<>();
+        for (AppUser attendee : userRepository.saveAll(users)) {
+            attendees.add(new Attendee(new Role(RoleTitle.ATTENDEE), new Confirmation(false), event, null, attendee));
+        }
+
+        // Sequence values and inserts are grouped instead of costing a round trip per row
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        attendeeRepository.saveAll(attendees);
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 20);
+    }
+
     @Test
     public void modifyTitleTest() {
         // Given
@@ -308,6 +375,82 @@ public class AttendeeServiceTests {
         });
     }
 
+    @Test
+    public void changeTitleOutcomeTest() {
+        // Given
+        user = userRepository.save(user);
+        user2 = userRepository.save(user2);
+        event = eventRepository.save(event);
+        track = trackRepository.save(track);
+        var attendee = attendeeService.createAttendance(user.getId(),
+                event.getId(), track.getId(), RoleTitle.ATTENDEE, true);
+        var chair = attendeeService.createAttendance(user2.getId(),
+                event.getId(), null, RoleTitle.GENERAL_CHAIR, true);
+        user3 = userRepository.save(user3);
+        var member = attendeeService.createAttendance(user3.getId(),
+                event.getId(), track.getId(), RoleTitle.PC_MEMBER, true);
+
+        // Lookups that find nothing are empty rather than exceptional
+        assertEquals(List.of(), attendeeService.findAttendance(1413L, event.getId(), null, true));
+        assertEquals(List.of(), attendeeService.findAttendance(user.getId(), event.getId(), track.getId(), false));
+
+        // Rejected changes are returned as their outcome
+        assertEquals(TitleChange.Outcome.NO_SUCH_ATTENDANCE,
+                attendeeService.changeTitle(user2.getId(), 1212L, RoleTitle.AUTHOR).getOutcome());
+        assertEquals(TitleChange.Outcome.NO_SUCH_EXECUTOR,
+                attendeeService.changeTitle(1413L, attendee.getId(), RoleTitle.AUTHOR).getOutcome());
+        assertEquals(TitleChange.Outcome.NO_SUCH_EXECUTOR,
+                attendeeService.changeTitle(user.getId(), chair.getId(), RoleTitle.ATTENDEE).getOutcome());
+        assertEquals(TitleChange.Outcome.INSUFFICIENT_PERMISSION,
+                attendeeService.changeTitle(user.getId(), member.getId(), RoleTitle.AUTHOR).getOutcome());
+        assertEquals(TitleChange.Outcome.INVALID_GENERAL_CHAIR_COUNT,
+                attendeeService.changeTitle(user2.getId(), chair.getId(), RoleTitle.ATTENDEE).getOutcome());
+        assertEquals(RoleTitle.PC_MEMBER, attendeeService.getAttendance(member.getId()).getRole().getRoleTitle());
+
+        // Normal usage
+        TitleChange change = attendeeService.changeTitle(user2.getId(), attendee.getId(), RoleTitle.AUTHOR);
+        assertTrue(change.isChanged());
+        assertEquals(RoleTitle.AUTHOR, change.getAttendee().getRole().getRoleTitle());
+    }
+
+    @Test
+    public void concurrentDemotionsKeepAGeneralChairTest() throws Exception {
+        // Given two general chairs demoting each other at the same time
+        user = userRepository.save(user);
+        user2 = userRepository.save(user2);
+        event = eventRepository.save(event);
+        var chair = attendeeService.createAttendance(user.getId(),
+                event.getId(), null, RoleTitle.GENERAL_CHAIR, true);
+        var chair2 = attendeeService.createAttendance(user2.getId(),
+                event.getId(), null, RoleTitle.GENERAL_CHAIR, true);
+        List<Callable<TitleChange>> demotions = List.of(
+            () -> attendeeService.changeTitle(user.getId(), chair2.getId(), RoleTitle.ATTENDEE),
+            () -> attendeeService.changeTitle(user2.getId(), chair.getId(), RoleTitle.ATTENDEE));
+
+        ExecutorService executor = Executors.newFixedThreadPool(demotions.size());
+        try {
+            for (int round = 0; round < 20; round++) {
+                List<TitleChange> changes = new ArrayList<>();
+                for (Future<TitleChange> future : executor.invokeAll(demotions)) {
+                    changes.add(future.get());
+                }
+
+                // Only one of them succeeds
+                List<TitleChange> changed = changes.stream().filter(TitleChange::isChanged).collect(Collectors.toList());
+                assertEquals(1, changed.size());
+                assertEquals(1, attendeeRepository.countByEventIdAndRoleAndConfirmation(event.getId(),
+                        new Role(RoleTitle.GENERAL_CHAIR), new Confirmation(true)));
+
+                // The remaining chair promotes the other one again
+                Attendee demoted = changed.get(0).getAttendee();
+                Long remaining = demoted.getId().equals(chair.getId()) ? user2.getId() : user.getId();
+                assertTrue(attendeeService.changeTitle(remaining, demoted.getId(), RoleTitle.GENERAL_CHAIR).isChanged());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void sufficesTest() {
 
@@ -339,6 +482,48 @@ public class AttendeeServiceTests {
 
 
 
+    }
+
+    @Test
+    public void permissionIsAggregatedInTheDatabaseTest() {
+
+        // Given an event with many attendances
+        user = userRepository.save(user);
+        user2 = userRepository.save(user2);
+        event = eventRepository.save(event);
+        track = trackRepository.save(track);
+        List<AppUser> users = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            users.add(new AppUser(new Email("user" + i + "@test.test"), new Name("name"), new Name("name"),
+                    null, null, null));
+        }
+        List<Attendee> attendees = new ArrayList<>();
+        for (AppUser attending : userRepository.saveAll(users)) {
+            attendees.add(new Attendee(new Role(RoleTitle.ATTENDEE), new Confirmation(true), event, null, attending));
+        }
+        attendeeRepository.saveAll(attendees);
+        attendeeService.createAttendance(user.getId(), event.getId(), null, RoleTitle.GENERAL_CHAIR, true);
+        attendeeService.createAttendance(user2.getId(), event.getId(), track.getId(), RoleTitle.PC_CHAIR, true);
+        var subject = attendeeService.createAttendance(users.get(0).getId(), event.getId(), track.getId(),
+                RoleTitle.ATTENDEE, true);
+
+        // The event-level roles count within the tracks, but not the other way around
+        assertEquals(RoleTitle.GENERAL_CHAIR.getPermission(),
+                attendeeRepository.findMinimumPermission(user.getId(), event.getId(), track.getId()).getAsInt());
+        assertEquals(RoleTitle.PC_CHAIR.getPermission(),
+                attendeeRepository.findMinimumPermission(user2.getId(), event.getId(), track.getId()).getAsInt());
+        assertTrue(attendeeRepository.findMinimumPermission(user2.getId(), event.getId(), null).isEmpty());
+        assertEquals(1, attendeeRepository.countByEventIdAndRoleAndConfirmation(event.getId(),
+                new Role(RoleTitle.GENERAL_CHAIR), new Confirmation(true)));
+
+        // The checks no longer load the attendances of the event
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertTrue(attendeeService.suffices(user2.getId(), subject.getId()));
+        assertFalse(attendeeService.suffices(user2.getId(), attendees.get(1).getId()));
+        attendeeService.modifyTitle(user.getId(), subject.getId(), RoleTitle.GENERAL_CHAIR);
+        assertTrue(statistics.getEntityLoadCount() < 10);
+        assertTrue(statistics.getPrepareStatementCount() < 20);
     }
 
     @Test
@@ -365,6 +550,37 @@ public class AttendeeServiceTests {
 
     }
 
+    @Test
+    public void getAttendancePageTest() {
+        // Given
+        user = userRepository.save(user);
+        user2 = userRepository.save(user2);
+        user3 = userRepository.save(user3);
+        event = eventRepository.save(event);
+        track = trackRepository.save(track);
+        List<RoleTitle> roles = List.of(RoleTitle.values());
+        var first = attendeeService.createAttendance(user.getId(), event.getId(), null, RoleTitle.ATTENDEE, true);
+        var second = attendeeService.createAttendance(user2.getId(), event.getId(), track.getId(), RoleTitle.AUTHOR, true);
+        attendeeService.createAttendance(user3.getId(), event.getId(), null, RoleTitle.ATTENDEE, false);
+
+        // Then, page by page, without the unconfirmed attendance
+        assertEquals(List.of(first.getId()), ids(attendeeService.getAttendancePage(event.getId(), null, roles, null, 1)));
+        assertEquals(List.of(second.getId()),
+                ids(attendeeService.getAttendancePage(event.getId(), null, roles, first.getId(), 1)));
+        assertTrue(attendeeService.getAttendancePage(event.getId(), null, roles, second.getId(), 1).isEmpty());
+
+        // Only the supplied filters apply
+        assertEquals(List.of(first.getId(), second.getId()),
+                ids(attendeeService.getAttendancePage(null, null, roles, null, 10)));
+        assertEquals(List.of(second.getId()), ids(attendeeService.getAttendancePage(null, track.getId(), roles, null, 10)));
+        assertEquals(List.of(first.getId()),
+                ids(attendeeService.getAttendancePage(event.getId(), null, List.of(RoleTitle.ATTENDEE), null, 10)));
+    }
+
+    private static List<Long> ids(List<Attendee> attendances) {
+        return attendances.stream().map(Attendee::getId).collect(Collectors.toList());
+    }
+
     //    @Test
     //    @Transactional
     //    public void findAttendeeTest() {
@@ -0,0 +1,78 @@
+package nl.tudelft.sem.template.integrated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+
+import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.controllers.ChangeController;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.domain.user.Name;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.logs.stream.ChangeStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ChangeControllerTests {
+
+    @MockBean
+    private AuthManager authManager;
+
+    @Autowired
+    private transient UserRepository userRepository;
+
+    @Autowired
+    private transient ChangeStream changeStream;
+
+    @Autowired
+    private transient ChangeController changeController;
+
+    private AppUser user;
+
+    /**
+     * Setups an authenticated user.
+     */
+    @BeforeEach
+    public void setup() {
+        when(authManager.getEmail()).thenReturn("test@test.net");
+        user = userRepository.save(new AppUser(new Email("test@test.net"), new Name("name"), new Name("name")));
+    }
+
+    @Test
+    public void streamChangesTest() {
+        ResponseEntity<SseEmitter> response = changeController.streamChanges(null, user.getId(), null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, changeStream.getSubscriberCount());
+    }
+
+    @Test
+    public void streamChangesOfOtherUserTest() {
+        ResponseEntity<SseEmitter> response = changeController.streamChanges(null, user.getId() + 1, null);
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals(0, changeStream.getSubscriberCount());
+    }
+
+    @Test
+    public void streamChangesUnauthorizedTest() {
+        when(authManager.getEmail()).thenReturn("unknown@test.net");
+        ResponseEntity<SseEmitter> response = changeController.streamChanges(1L, null, null);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+}
@@ -0,0 +1,151 @@
+package nl.tudelft.sem.template.integrated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import javax.persistence.EntityManagerFactory;
+import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.controllers.EventController;
+import nl.tudelft.sem.template.controllers.UserController;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.Communication;
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.domain.user.Link;
+import nl.tudelft.sem.template.domain.user.Name;
+import nl.tudelft.sem.template.domain.user.UserAffiliation;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.model.User;
+import nl.tudelft.sem.template.services.RoleService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ConditionalRequestTests {
+
+    @MockBean
+    private AuthManager authManager;
+
+    @MockBean
+    private transient RoleService roleService;
+
+    @Autowired
+    private transient EventRepository eventRepository;
+
+    @Autowired
+    private transient UserRepository userRepository;
+
+    @Autowired
+    private transient EventController eventController;
+
+    @Autowired
+    private transient UserController userController;
+
+    @Autowired
+    private transient EntityManagerFactory entityManagerFactory;
+
+    private AppUser user;
+    private Event event;
+
+    /**
+     * Setups an authenticated user that may update the stored event.
+     */
+    @BeforeEach
+    public void setup() {
+        when(authManager.getEmail()).thenReturn("test@test.net");
+        when(roleService.hasPermission(any(AuthManager.class), anyLong(), any(), anyInt())).thenReturn(true);
+        user = userRepository.save(new AppUser(new Email("test@test.net"), new Name("name"), new Name("name"),
+                new UserAffiliation("affiliation"), new Link("link"), new Communication("email")));
+
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        event = eventRepository.save(new Event(
+                date, date, new IsCancelled(false), new EventName("name"), new EventDescription("desc")));
+    }
+
+    @Test
+    public void getEventIsTaggedTest() {
+        ResponseEntity<nl.tudelft.sem.template.model.Event> response = eventController.getEventById(event.getId(), null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"0\"", response.getHeaders().getETag());
+        assertEquals("name", response.getBody().getName());
+    }
+
+    @Test
+    public void revalidationDoesNotLoadTheEventTest() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<nl.tudelft.sem.template.model.Event> response =
+                eventController.getEventById(event.getId(), "\"1\", W/\"0\"");
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"0\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        // An outdated tag is answered with the current representation
+        response = eventController.getEventById(event.getId(), "\"1\"");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"0\"", response.getHeaders().getETag());
+
+        response = eventController.getEventById(event.getId() + 1, "\"0\"");
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    public void updateEventIfMatchTest() {
+        nl.tudelft.sem.template.model.Event update = event.toModelEvent();
+        update.setName("renamed");
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, eventController.updateEvent(update, "\"1\"").getStatusCode());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, eventController.updateEvent(update, "W/\"0\"").getStatusCode());
+        assertEquals("name", eventRepository.findById(event.getId()).get().getName().toString());
+
+        assertEquals(HttpStatus.OK, eventController.updateEvent(update, "\"0\"").getStatusCode());
+        ResponseEntity<nl.tudelft.sem.template.model.Event> response = eventController.getEventById(event.getId(), "\"0\"");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"1\"", response.getHeaders().getETag());
+        assertEquals("renamed", response.getBody().getName());
+
+        // The update based on the first version has been overtaken
+        assertEquals(HttpStatus.PRECONDITION_FAILED, eventController.updateEvent(update, "\"0\"").getStatusCode());
+        assertEquals(HttpStatus.OK, eventController.updateEvent(update, "*").getStatusCode());
+    }
+
+    @Test
+    public void getAndUpdateAccountConditionallyTest() {
+        ResponseEntity<User> response = userController.getAccountByID(user.getId(), null);
+        assertEquals("\"0\"", response.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, userController.getAccountByID(user.getId(), "*").getStatusCode());
+
+        User update = user.toModelUser();
+        update.setAffiliation("TU Delft");
+        assertEquals(HttpStatus.PRECONDITION_FAILED, userController.updateAccount(update, "\"3\"").getStatusCode());
+        assertEquals(HttpStatus.NO_CONTENT, userController.updateAccount(update, "\"0\"").getStatusCode());
+        assertEquals(HttpStatus.OK, userController.getAccountByID(user.getId(), "\"0\"").getStatusCode());
+    }
+}
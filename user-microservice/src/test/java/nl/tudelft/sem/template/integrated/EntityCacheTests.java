@@ -0,0 +1,148 @@
+package nl.tudelft.sem.template.integrated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.NoSuchElementException;
+import javax.persistence.EntityManagerFactory;
+import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.track.Track;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.Communication;
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.domain.user.Link;
+import nl.tudelft.sem.template.domain.user.Name;
+import nl.tudelft.sem.template.domain.user.UserAffiliation;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.model.PaperType;
+import nl.tudelft.sem.template.model.User;
+import nl.tudelft.sem.template.services.EventService;
+import nl.tudelft.sem.template.services.TrackService;
+import nl.tudelft.sem.template.services.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class EntityCacheTests {
+
+    @Autowired
+    private transient EventRepository eventRepository;
+
+    @Autowired
+    private transient UserRepository userRepository;
+
+    @Autowired
+    private transient EventService eventService;
+
+    @Autowired
+    private transient TrackService trackService;
+
+    @Autowired
+    private transient UserService userService;
+
+    @Autowired
+    private transient MeterRegistry meterRegistry;
+
+    @Autowired
+    private transient EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private LocalDate date;
+    private Event event;
+
+    /**
+     * Stores an event and resets the statistics.
+     */
+    @BeforeEach
+    public void setup() {
+        date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        event = eventRepository.save(new Event(
+                date, date, new IsCancelled(false), new EventName("name"), new EventDescription("desc")));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void eventIsReadThroughTest() {
+        assertEquals("name", eventService.getEventById(event.getId()).getName().toString());
+        assertEquals("name", eventService.getEventById(event.getId()).getName().toString());
+        assertEquals(1, statistics.getEntityLoadCount());
+
+        // Missing events are looked up every time
+        assertNull(eventService.getEventById(event.getId() + 1));
+        assertNull(eventService.getEventById(event.getId() + 1));
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        assertEquals(0.25, meterRegistry.get("cache.hit.ratio").tag("cache", "events").gauge().value());
+    }
+
+    @Test
+    public void eventIsEvictedByItsLogsTest() {
+        eventService.getEventById(event.getId());
+        eventService.updateEvent(event.getId(), date, date, true, "renamed", "desc");
+
+        Event cached = eventService.getEventById(event.getId());
+        assertEquals("renamed", cached.getName().toString());
+        assertEquals(1L, cached.getVersion());
+
+        eventService.deleteEvent(event.getId());
+        assertNull(eventService.getEventById(event.getId()));
+    }
+
+    @Test
+    public void trackIsEvictedOnModificationAndRemovalTest() {
+        Track track = trackService.createTrack("title", "desc", date, date, PaperType.FULL_PAPER, event.getId());
+        assertEquals("title", trackService.getTrackById(track.getId()).getTitle().toString());
+
+        trackService.updateTrack(track.getId(), "renamed", "desc", date, date, PaperType.POSITION_PAPER,
+                event.getId());
+        assertEquals("renamed", trackService.getTrackById(track.getId()).getTitle().toString());
+
+        // Removing the event removes its tracks as well
+        eventService.deleteEvent(event.getId());
+        assertThrows(NoSuchElementException.class, () -> trackService.getTrackById(track.getId()));
+    }
+
+    @Test
+    public void userIsEvictedByItsLogsTest() {
+        AppUser user = userRepository.save(new AppUser(new Email("test@test.net"), new Name("name"), new Name("name"),
+                new UserAffiliation("affiliation"), new Link("link"), new Communication("email")));
+        statistics.clear();
+        userService.getUserById(user.getId());
+        userService.getUserById(user.getId());
+        assertEquals(1, statistics.getEntityLoadCount());
+
+        User update = user.toModelUser();
+        update.setFirstName("renamed");
+        userService.updateUser(new AppUser(update));
+        assertEquals("renamed", userService.getUserById(user.getId()).getFirstName().toString());
+
+        userService.deleteUser(user.getId());
+        assertNull(userService.getUserById(user.getId()));
+
+        // Evictions only count the entities that did not fit or expired
+        assertEquals(0.0, meterRegistry.get("cache.evictions").tag("cache", "users").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "users", "result", "hit")
+                .functionCounter().count());
+    }
+}
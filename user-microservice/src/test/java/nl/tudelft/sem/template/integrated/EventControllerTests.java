@@ -1,6 +1,7 @@
 package nl.tudelft.sem.template.integrated;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -10,6 +11,8 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import nl.tudelft.sem.template.Application;
 import nl.tudelft.sem.template.authentication.AuthManager;
 import nl.tudelft.sem.template.controllers.EventController;
@@ -23,6 +26,7 @@ import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.domain.user.UserRepository;
 import nl.tudelft.sem.template.model.Event;
+import nl.tudelft.sem.template.model.EventDeletion;
 import nl.tudelft.sem.template.services.AttendeeService;
 import nl.tudelft.sem.template.services.EventService;
 import nl.tudelft.sem.template.services.InvitationService;
@@ -136,10 +140,94 @@ public class EventControllerTests {
     public void findEventTest() {
         userRepository.save(appUser);
         Event responseEvent = eventController.addEvent(event.toModelEvent()).getBody();
-        ResponseEntity<List<Event>> response = eventController.findEvent(null, null, null, null, null, null);
+        ResponseEntity<List<Event>> response = eventController.findEvent(null, null, null, null, null, null,
+                null, null, null, null, null);
         assertEquals(response.getStatusCode(), HttpStatus.OK);
     }
 
+    @Test
+    public void findEventSortedAndPagedTest() {
+        LocalDate startDate = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        for (int i = 0; i < 25; i++) {
+            eventRepository.save(new nl.tudelft.sem.template.domain.event.Event(startDate.plusDays(i),
+                    startDate.plusDays(i + 1), new IsCancelled(false), new EventName("event" + i),
+                    new EventDescription("desc")));
+        }
+
+        ResponseEntity<List<Event>> response = eventController.findEvent(null, null, null, null, false, null,
+                null, "start_date", "desc", 1, 10);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, response.getBody().size());
+        assertEquals("event14", response.getBody().get(0).getName());
+        assertEquals("event5", response.getBody().get(9).getName());
+        assertEquals("2", response.getHeaders().getFirst("X-Next-Page"));
+
+        response = eventController.findEvent(null, startDate.plusDays(1), null, null, false, null,
+                null, "start_date", "desc", 2, 10);
+        assertEquals(3, response.getBody().size());
+        assertEquals("event2", response.getBody().get(2).getName());
+        assertNull(response.getHeaders().getFirst("X-Next-Page"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, eventController.findEvent(null, null, null, null, null, null,
+                null, "description", null, null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, eventController.findEvent(null, null, null, null, null, null,
+                null, null, "up", null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, eventController.findEvent(null, null, null, null, null, null,
+                null, null, null, null, 1001).getStatusCode());
+    }
+
+    @Test
+    public void findEventBySearchTest() {
+        LocalDate startDate = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        nl.tudelft.sem.template.domain.event.Event workshop = eventRepository.save(
+                new nl.tudelft.sem.template.domain.event.Event(startDate, startDate, new IsCancelled(false),
+                        new EventName("Software Workshop"), new EventDescription("On testing")));
+        eventRepository.save(new nl.tudelft.sem.template.domain.event.Event(startDate.plusDays(1), startDate,
+                new IsCancelled(false), new EventName("Conference on Testing"), new EventDescription("Software")));
+        eventRepository.save(new nl.tudelft.sem.template.domain.event.Event(startDate, startDate,
+                new IsCancelled(true), new EventName("Software testers' meetup"), new EventDescription("")));
+
+        // Matches in the name rank above matches in the description, and prefixes match as well;
+        // the other criteria still apply
+        ResponseEntity<List<Event>> response = eventController.findEvent(null, null, null, null, false, null,
+                "software TEST", null, null, null, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("Software Workshop", "Conference on Testing"),
+                response.getBody().stream().map(Event::getName).collect(Collectors.toList()));
+
+        response = eventController.findEvent(null, null, null, null, false, null,
+                "software test", "start_date", "desc", null, 1);
+        assertEquals("Conference on Testing", response.getBody().get(0).getName());
+        assertEquals("1", response.getHeaders().getFirst("X-Next-Page"));
+
+        workshop.setName(new EventName("Workshop"));
+        eventRepository.save(workshop);
+        assertEquals(0, eventController.findEvent(null, null, null, null, null, null,
+                "software workshop", null, null, null, null).getBody().size());
+        assertEquals(1, eventController.findEvent(null, null, null, null, null, null,
+                "workshop", null, null, null, null).getBody().size());
+    }
+
+    @Test
+    public void findEventBySearchSkipsRejectedCandidatesTest() {
+        LocalDate startDate = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        for (String name : List.of("Meetup meetup", "Meetup meetup", "Meetup meetup", "Meetup A", "Meetup B",
+                "Meetup C")) {
+            eventRepository.save(new nl.tudelft.sem.template.domain.event.Event(startDate, startDate,
+                    new IsCancelled(name.endsWith("meetup")), new EventName(name), new EventDescription("")));
+        }
+
+        // The most relevant candidates are all cancelled, so more of them are taken from the index
+        ResponseEntity<List<Event>> response = eventController.findEvent(null, null, null, null, false, null,
+                "meetup", null, null, 1, 1);
+        assertEquals(List.of("Meetup B"), response.getBody().stream().map(Event::getName).collect(Collectors.toList()));
+        assertEquals("2", response.getHeaders().getFirst("X-Next-Page"));
+
+        response = eventController.findEvent(null, null, null, null, false, null, "meetup", null, null, 2, 1);
+        assertEquals(List.of("Meetup C"), response.getBody().stream().map(Event::getName).collect(Collectors.toList()));
+        assertNull(response.getHeaders().getFirst("X-Next-Page"));
+    }
+
     @Test
     public void updateEventUnauthorizedTest() {
         userRepository.save(appUser);
@@ -148,21 +236,20 @@ public class EventControllerTests {
 
         Event responseEvent = eventController.addEvent(event.toModelEvent()).getBody();
         when(authManager.getEmail()).thenReturn("test@test.test.test.test");
-        ResponseEntity<Event> response = eventController.updateEvent(event.toModelEvent());
+        ResponseEntity<Event> response = eventController.updateEvent(event.toModelEvent(), null);
         assertEquals(response.getStatusCode(), HttpStatus.UNAUTHORIZED);
     }
 
     @Test
     public void getInvalidEventById() {
         userRepository.save(appUser);
-        when(eventService.eventExistsById(2115L)).thenReturn(false);
-        ResponseEntity<Event> response = eventController.getEventById(2115L);
+        when(eventService.getEventById(2115L)).thenReturn(null);
+        ResponseEntity<Event> response = eventController.getEventById(2115L, null);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
     public void getValidEventById() {
-        when(eventService.eventExistsById(anyLong())).thenReturn(true);
         when(userService.getUserByEmail(new Email("test@test.net"))).thenReturn(appUser);
 
         userRepository.save(appUser);
@@ -173,7 +260,7 @@ public class EventControllerTests {
         eventRepository.save(domainEvent);
 
         when(eventService.getEventById(anyLong())).thenReturn(domainEvent);
-        ResponseEntity<Event> response = eventController.getEventById(domainEvent.getId());
+        ResponseEntity<Event> response = eventController.getEventById(domainEvent.getId(), null);
         System.out.println(response.getStatusCode());
         assertEquals(domainEvent.toModelEvent(), response.getBody());
     }
@@ -184,7 +271,7 @@ public class EventControllerTests {
                 event.getStartDate(), event.getEndDate(), event.getIsCancelled(),
                 event.getName(), event.getDescription());
         eventRepository.save(domainEvent);
-        ResponseEntity<Event> response = eventController.getEventById(domainEvent.getId());
+        ResponseEntity<Event> response = eventController.getEventById(domainEvent.getId(), null);
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
@@ -192,7 +279,7 @@ public class EventControllerTests {
     void deleteEventUnauthorizedTest() {
         when(roleService.hasPermission(any(AuthManager.class),
                 anyLong(), any(), anyInt())).thenReturn(false);
-        ResponseEntity<Void> response = eventController.deleteEvent(1L);
+        ResponseEntity<EventDeletion> response = eventController.deleteEvent(1L, null);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
@@ -203,7 +290,7 @@ public class EventControllerTests {
                 anyLong(), any(), anyInt())).thenReturn(true);
         when(eventService.deleteEvent(anyLong())).thenReturn(true);
 
-        ResponseEntity<Void> response = eventController.deleteEvent(1L);
+        ResponseEntity<EventDeletion> response = eventController.deleteEvent(1L, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(eventService).deleteEvent(anyLong());
@@ -216,9 +303,34 @@ public class EventControllerTests {
                 anyLong(), any(), anyInt())).thenReturn(true);
         when(eventService.deleteEvent(eventId)).thenReturn(false);
 
-        ResponseEntity<Void> response = eventController.deleteEvent(eventId);
+        ResponseEntity<EventDeletion> response = eventController.deleteEvent(eventId, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(eventService).deleteEvent(eventId);
     }
+
+    @Test
+    void deleteEventAsynchronouslyTest() throws InterruptedException {
+        userRepository.save(appUser);
+        when(roleService.hasPermission(any(AuthManager.class),
+                anyLong(), any(), anyInt())).thenReturn(true);
+        when(eventService.deleteEvent(1L)).thenReturn(true);
+
+        ResponseEntity<EventDeletion> response = eventController.deleteEvent(1L, true);
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        UUID jobId = response.getBody().getId();
+        assertEquals("/event/deletion/" + jobId, response.getHeaders().getLocation().toString());
+        assertEquals(1L, response.getBody().getEventId());
+
+        // The job completes in the background
+        EventDeletion job = eventController.getEventDeletion(jobId).getBody();
+        for (int poll = 0; poll < 100 && job.getStatus() != EventDeletion.StatusEnum.COMPLETED; poll++) {
+            Thread.sleep(50);
+            job = eventController.getEventDeletion(jobId).getBody();
+        }
+        assertEquals(EventDeletion.StatusEnum.COMPLETED, job.getStatus());
+        verify(eventService).deleteEvent(1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, eventController.getEventDeletion(UUID.randomUUID()).getStatusCode());
+    }
 }
@@ -1,10 +1,12 @@
 package nl.tudelft.sem.template.integrated;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.Application;
@@ -12,11 +14,20 @@ import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.EventDescription;
 import nl.tudelft.sem.template.domain.event.EventName;
 import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.domain.event.EventSpecifications;
 import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.pipeline.LogPipeline;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import nl.tudelft.sem.template.logs.store.SegmentedLogStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -32,6 +43,15 @@ public class EventRepositoryTests {
     @Autowired
     private transient EventRepository eventRepository;
 
+    @Autowired
+    private transient SegmentedLogStore logStore;
+
+    @Autowired
+    private transient LogPipeline logPipeline;
+
+    @Autowired
+    private transient JdbcTemplate jdbcTemplate;
+
     @Test
     @Transactional
     public void findByOptionalParamsTest() {
@@ -78,4 +98,44 @@ public class EventRepositoryTests {
         assertTrue(beforeAndAfter.contains(event2));
         assertFalse(beforeAndAfter.contains(event3));
     }
+
+    @Test
+    public void searchOnlyFiltersOnSuppliedCriteriaTest() {
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            events.add(new Event(date.plusDays(i % 365), date.plusDays(i % 365 + 1), new IsCancelled(i % 10 == 0),
+                    new EventName("event" + i), new EventDescription("desc")));
+        }
+        eventRepository.saveAll(events);
+
+        Page<Event> named = eventRepository.findAll(
+                EventSpecifications.matching(null, null, null, null, null, "event4321"), PageRequest.of(0, 10));
+        assertEquals(1, named.getTotalElements());
+        assertEquals("event4321", named.getContent().get(0).getName().toString());
+
+        long expected = events.stream().filter(event -> event.getStartDate().isAfter(date.plusDays(99))
+                && event.getStartDate().isBefore(date.plusDays(200))
+                && event.getIsCancelled().getCancelStatus()).count();
+        assertEquals(expected, eventRepository.count(
+                EventSpecifications.matching(date.plusDays(200), date.plusDays(99), null, null, true, null)));
+
+        // A search on the name alone is answered from the index on the name
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM events WHERE name = 'event4321'", String.class);
+        assertTrue(plan.contains("IDX_EVENTS_NAME"), plan);
+    }
+
+    @Test
+    public void savedEventIsLoggedTest() throws InterruptedException {
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        Event event = eventRepository.save(new Event(
+                date, date, new IsCancelled(false), new EventName("name"), new EventDescription("desc")));
+
+        assertTrue(logPipeline.flush(5_000));
+        List<LogRecord> records = new ArrayList<>();
+        logStore.forEach(records::add);
+        assertTrue(records.stream().anyMatch(record -> record.getLogType() == LogType.EVENT
+                && record.getLogKind() == LogKind.CREATION && record.getSubjectId() == event.getId()));
+    }
 }
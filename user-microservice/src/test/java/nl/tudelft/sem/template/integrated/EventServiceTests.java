@@ -8,17 +8,37 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
 import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.domain.attendee.Attendee;
+import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
+import nl.tudelft.sem.template.domain.attendee.Confirmation;
+import nl.tudelft.sem.template.domain.attendee.Role;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.EventDescription;
 import nl.tudelft.sem.template.domain.event.EventName;
 import nl.tudelft.sem.template.domain.event.EventRepository;
 import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.track.Description;
+import nl.tudelft.sem.template.domain.track.PaperRequirement;
+import nl.tudelft.sem.template.domain.track.Title;
+import nl.tudelft.sem.template.domain.track.Track;
+import nl.tudelft.sem.template.domain.track.TrackRepository;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.enums.RoleTitle;
+import nl.tudelft.sem.template.logs.pipeline.LogPipeline;
+import nl.tudelft.sem.template.model.PaperType;
 import nl.tudelft.sem.template.services.EventService;
+import nl.tudelft.sem.template.services.HistoryService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +66,21 @@ public class EventServiceTests {
     @Autowired
     private transient UserRepository userRepository;
 
+    @Autowired
+    private transient TrackRepository trackRepository;
+
+    @Autowired
+    private transient AttendeeRepository attendeeRepository;
+
+    @Autowired
+    private transient EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private transient LogPipeline logPipeline;
+
+    @Autowired
+    private transient HistoryService historyService;
+
     private Long id;
     private LocalDate startDate;
     private LocalDate endDate;
@@ -130,6 +165,50 @@ public class EventServiceTests {
         assertNull(searchResult);
     }
 
+    @Test
+    public void deleteEventInBulkTest() throws InterruptedException {
+        // Given an event with tracks, and attendances of the event and of its tracks
+        Event event = eventRepository.save(new Event(startDate, endDate, isCancelled, name, description));
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tracks.add(trackRepository.save(new Track(new Title("track" + i), new Description("desc"),
+                    new PaperRequirement(PaperType.FULL_PAPER), startDate, endDate, event)));
+        }
+        List<Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            AppUser attendee = userRepository.save(new AppUser(new Email("user" + i + "@test.test"),
+                    new Name("name"), new Name("name"), null, null, null));
+            Track track = (i % 4 == 0) ? null : tracks.get(i % 3);
+            attendees.add(new Attendee(new Role(RoleTitle.ATTENDEE), new Confirmation(true), event, track, attendee));
+        }
+        attendees = attendeeRepository.saveAll(attendees);
+
+        // When
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertTrue(service.deleteEvent(event.getId()));
+
+        // Then a statement per table is executed, whatever the size of the event
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 6);
+        assertFalse(eventRepository.existsById(event.getId()));
+        assertEquals(List.of(), trackRepository.findIdsByEventId(event.getId()));
+        assertEquals(List.of(), attendeeRepository.findKeysByEventId(event.getId()));
+        assertEquals(1, eventRepository.count());
+
+        // And the removal of every subject is logged
+        assertTrue(logPipeline.flush(5_000));
+        assertEquals(1, removals(LogType.EVENT, event.getId()));
+        assertEquals(1, removals(LogType.TRACK, tracks.get(1).getId()));
+        assertEquals(1, removals(LogType.ATTENDEE, attendees.get(0).getId()));
+        assertEquals(1, removals(LogType.ATTENDEE, attendees.get(299).getId()));
+    }
+
+    private int removals(LogType logType, Long subjectId) {
+        return historyService.getHistory(logType, subjectId, LogKind.REMOVAL, null, null, null, 10)
+                .getRecords().size();
+    }
+
     @Test
     public void deleteInvalidEventTest() {
         Long nonExistingId = Long.MAX_VALUE;
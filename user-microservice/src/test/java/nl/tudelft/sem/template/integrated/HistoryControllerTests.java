@@ -0,0 +1,177 @@
+package nl.tudelft.sem.template.integrated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.controllers.HistoryController;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.domain.user.Name;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.enums.RoleTitle;
+import nl.tudelft.sem.template.logs.pipeline.LogPipeline;
+import nl.tudelft.sem.template.model.LogEntry;
+import nl.tudelft.sem.template.services.AttendeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class HistoryControllerTests {
+
+    @MockBean
+    private AuthManager authManager;
+
+    @Autowired
+    private transient EventRepository eventRepository;
+
+    @Autowired
+    private transient UserRepository userRepository;
+
+    @Autowired
+    private transient AttendeeService attendeeService;
+
+    @Autowired
+    private transient LogPipeline logPipeline;
+
+    @Autowired
+    private transient HistoryController historyController;
+
+    private Event event;
+    private AppUser requester;
+
+    /**
+     * Setups an authenticated user and an event with a creation and a modification log.
+     */
+    @BeforeEach
+    public void setup() throws InterruptedException {
+        when(authManager.getEmail()).thenReturn("test@test.net");
+        requester = userRepository.save(new AppUser(new Email("test@test.net"), new Name("name"), new Name("name")));
+
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        Long eventId = eventRepository.save(new Event(
+                date, date, new IsCancelled(false), new EventName("name"), new EventDescription("desc"))).getId();
+        event = eventRepository.findById(eventId).orElseThrow();
+        event.setName(new EventName("renamed"));
+        event = eventRepository.save(event);
+        assertTrue(logPipeline.flush(5_000));
+    }
+
+    @Test
+    public void getHistoryTest() {
+        ResponseEntity<List<LogEntry>> response = historyController.getHistory(
+                "event", event.getId(), null, null, null, null, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().size());
+        assertEquals(LogEntry.LogKindEnum.CREATION, response.getBody().get(0).getLogKind());
+        assertEquals(LogEntry.LogKindEnum.MODIFICATION, response.getBody().get(1).getLogKind());
+        assertEquals(Map.of("name", "renamed"), response.getBody().get(1).getChangedFields());
+        assertNull(response.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
+    @Test
+    public void getHistoryFilteredAndPagedTest() {
+        ResponseEntity<List<LogEntry>> modifications = historyController.getHistory(
+                "event", event.getId(), "modification", null, null, null, null);
+        assertEquals(HttpStatus.OK, modifications.getStatusCode());
+        assertEquals(1, modifications.getBody().size());
+
+        ResponseEntity<List<LogEntry>> first = historyController.getHistory(
+                "event", event.getId(), null, null, null, 1, null);
+        String cursor = first.getHeaders().getFirst("X-Next-Cursor");
+        assertNotNull(cursor);
+        ResponseEntity<List<LogEntry>> second = historyController.getHistory(
+                "event", event.getId(), null, null, null, 1, Long.valueOf(cursor));
+        assertEquals(LogEntry.LogKindEnum.MODIFICATION, second.getBody().get(0).getLogKind());
+
+        ResponseEntity<List<LogEntry>> future = historyController.getHistory(
+                "event", event.getId(), null, OffsetDateTime.now().plusDays(1), null, null, null);
+        assertEquals(HttpStatus.NOT_FOUND, future.getStatusCode());
+    }
+
+    @Test
+    public void getUserHistoryOfOwnerOnlyTest() throws InterruptedException {
+        AppUser other = userRepository.save(new AppUser(new Email("other@test.net"), new Name("name"), new Name("name")));
+        assertTrue(logPipeline.flush(5_000));
+
+        assertEquals(HttpStatus.OK, historyController.getHistory(
+                "user", requester.getId(), null, null, null, null, null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, historyController.getHistory(
+                "user", other.getId(), null, null, null, null, null).getStatusCode());
+    }
+
+    @Test
+    public void getAttendeeHistoryOfOwnerOrChairOnlyTest() throws InterruptedException {
+        AppUser other = userRepository.save(new AppUser(new Email("other@test.net"), new Name("name"), new Name("name")));
+        Long own = attendeeService.createAttendance(requester.getId(), event.getId(), null, RoleTitle.ATTENDEE, true)
+                .getId();
+        Long others = attendeeService.createAttendance(other.getId(), event.getId(), null, RoleTitle.ATTENDEE, true)
+                .getId();
+        assertTrue(logPipeline.flush(5_000));
+
+        assertEquals(HttpStatus.OK, historyController.getHistory(
+                "attendee", own, null, null, null, null, null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, historyController.getHistory(
+                "attendee", others, null, null, null, null, null).getStatusCode());
+
+        // The attendances of the others are visible in an event the requester chairs
+        Event chaired = eventRepository.save(new Event(event.getStartDate(), event.getEndDate(),
+                new IsCancelled(false), new EventName("chaired"), new EventDescription("desc")));
+        attendeeService.createAttendance(requester.getId(), chaired.getId(), null, RoleTitle.GENERAL_CHAIR, true);
+        Long othersInChaired = attendeeService.createAttendance(other.getId(), chaired.getId(), null,
+                RoleTitle.ATTENDEE, true).getId();
+        assertTrue(logPipeline.flush(5_000));
+        assertEquals(HttpStatus.OK, historyController.getHistory(
+                "attendee", othersInChaired, null, null, null, null, null).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, historyController.getHistory(
+                "attendee", others + 100, null, null, null, null, null).getStatusCode());
+    }
+
+    @Test
+    public void getHistoryInvalidRequestsTest() {
+        assertEquals(HttpStatus.BAD_REQUEST, historyController.getHistory(
+                "conference", event.getId(), null, null, null, null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, historyController.getHistory(
+                "event", event.getId(), "deletion", null, null, null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, historyController.getHistory(
+                "event", event.getId(), null, null, null, 0, null).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, historyController.getHistory(
+                "track", event.getId(), null, null, null, null, null).getStatusCode());
+
+        // The requester is resolved once per request, so the unknown user sends a new one
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(authManager.getEmail()).thenReturn("unknown@test.net");
+        assertEquals(HttpStatus.UNAUTHORIZED, historyController.getHistory(
+                "event", event.getId(), null, null, null, null, null).getStatusCode());
+    }
+}
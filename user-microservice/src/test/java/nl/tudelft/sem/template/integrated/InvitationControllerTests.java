@@ -283,13 +283,13 @@ public class InvitationControllerTests {
 
 	@Test
 	public void getInvitationBadRequestTest() {
-		ResponseEntity<Invitation> response = invitationController.getInvitation(null);
+		ResponseEntity<Invitation> response = invitationController.getInvitation(null, null);
 		assertEquals(response.getStatusCode(), HttpStatus.BAD_REQUEST);
 	}
 
 	@Test
 	public void getInvitationNotFoundTest() {
-		ResponseEntity<Invitation> response = invitationController.getInvitation(1);
+		ResponseEntity<Invitation> response = invitationController.getInvitation(1, null);
 		assertEquals(response.getStatusCode(), HttpStatus.NOT_FOUND);
 	}
 
@@ -303,7 +303,7 @@ public class InvitationControllerTests {
 		Attendee invitation = invitationService.enroll(user.getId(), event.getId(), track.getId(),
 			RoleTitle.PC_CHAIR);
 		ResponseEntity<Invitation> response = invitationController.getInvitation(
-			Math.toIntExact(invitation.getId()));
+			Math.toIntExact(invitation.getId()), null);
 		assertEquals(response.getStatusCode(), HttpStatus.OK);
 	}
 
@@ -358,13 +358,13 @@ public class InvitationControllerTests {
 
 	@Test
 	public void acceptInvitationBadRequestTest() {
-		ResponseEntity<Invitation> response = invitationController.acceptInvitation(null);
+		ResponseEntity<Invitation> response = invitationController.acceptInvitation(null, null);
 		assertEquals(response.getStatusCode(), HttpStatus.BAD_REQUEST);
 	}
 
 	@Test
 	public void acceptInvitationUnauthorizedTest1() {
-		ResponseEntity<Invitation> response = invitationController.acceptInvitation(1);
+		ResponseEntity<Invitation> response = invitationController.acceptInvitation(1, null);
 		assertEquals(response.getStatusCode(), HttpStatus.UNAUTHORIZED);
 	}
 
@@ -378,7 +378,7 @@ public class InvitationControllerTests {
 		Attendee invitation = invitationService.enroll(user.getId(), event.getId(), track.getId(),
 			RoleTitle.PC_CHAIR);
 		ResponseEntity<Invitation> response = invitationController.acceptInvitation(
-			Math.toIntExact(invitation.getId()));
+			Math.toIntExact(invitation.getId()), null);
 		assertEquals(response.getStatusCode(), HttpStatus.UNAUTHORIZED);
 	}
 
@@ -389,7 +389,7 @@ public class InvitationControllerTests {
 		eventRepository.save(event);
 		trackRepository.save(track);
 
-		ResponseEntity<Invitation> response = invitationController.acceptInvitation(1);
+		ResponseEntity<Invitation> response = invitationController.acceptInvitation(1, null);
 		assertEquals(response.getStatusCode(), HttpStatus.NOT_FOUND);
 	}
 
@@ -403,7 +403,7 @@ public class InvitationControllerTests {
 		Attendee invitation = invitationService.enroll(exec.getId(), event.getId(), track.getId(),
 			RoleTitle.PC_CHAIR);
 		ResponseEntity<Invitation> response = invitationController.acceptInvitation(
-			Math.toIntExact(invitation.getId()));
+			Math.toIntExact(invitation.getId()), null);
 		assertEquals(response.getStatusCode(), HttpStatus.OK);
 		Invitation invitation1 = response.getBody();
 		assertEquals(invitation1.getUserId(), exec.getId());
@@ -8,13 +8,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.naming.NoPermissionException;
 import javax.transaction.Transactional;
 import nl.tudelft.sem.template.Application;
 import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
+import nl.tudelft.sem.template.domain.attendee.BatchInvitation;
 import nl.tudelft.sem.template.domain.attendee.Confirmation;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.event.EventDescription;
@@ -30,6 +36,7 @@ import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.enums.InvitationOutcome;
 import nl.tudelft.sem.template.enums.RoleTitle;
 import nl.tudelft.sem.template.model.PaperType;
 import nl.tudelft.sem.template.services.AttendeeService;
@@ -309,4 +316,109 @@ public class InvitationServiceTests {
 		assertFalse(userAttendee.getConfirmation().isConfirmed());
 	}
 
+	@Test
+	public void inviteAllTest() {
+
+		// Given
+		userRepository.save(user);
+		userRepository.save(exec);
+		AppUser other = userRepository.save(new AppUser(new Email("test@test.test3"), new Name("name"),
+				new Name("name3"), null, null, null));
+		eventRepository.save(event);
+		trackRepository.save(track);
+		RoleTitle execRole = RoleTitle.PC_CHAIR;
+		Attendee execAttendee = invitationService.enroll(exec.getId(), event.getId(), track.getId(), execRole);
+		invitationService.accept(exec.getId(), execAttendee.getId());
+		invitationService.invite(exec.getId(), user.getId(), event.getId(), track.getId(), RoleTitle.ATTENDEE);
+
+		// When
+		List<BatchInvitation> outcomes = invitationService.inviteAll(exec.getId(),
+				List.of(user.getId(), other.getId(), 123456789L, other.getId()),
+				event.getId(), track.getId(), RoleTitle.PC_MEMBER);
+
+		// Then
+		assertEquals(3, outcomes.size());
+		assertEquals(InvitationOutcome.ALREADY_EXISTS, outcomes.get(0).getOutcome());
+		assertNull(outcomes.get(0).getInvitation());
+		assertEquals(InvitationOutcome.INVITED, outcomes.get(1).getOutcome());
+		assertEquals(InvitationOutcome.UNKNOWN_USER, outcomes.get(2).getOutcome());
+
+		Attendee invitation = attendeeService.getAttendance(outcomes.get(1).getInvitation().getId());
+		assertEquals(other.getId(), invitation.getUser().getId());
+		assertEquals(RoleTitle.PC_MEMBER, invitation.getRole().getRoleTitle());
+		assertFalse(invitation.getConfirmation().isConfirmed());
+	}
+
+	@Test
+	public void inviteAllNoPermissionTest() {
+
+		// Given
+		userRepository.save(user);
+		userRepository.save(exec);
+		eventRepository.save(event);
+		trackRepository.save(track);
+		RoleTitle execRole = RoleTitle.AUTHOR;
+		Attendee execAttendee = invitationService.enroll(exec.getId(), event.getId(), track.getId(), execRole);
+		invitationService.accept(exec.getId(), execAttendee.getId());
+
+		// Then
+		assertThrows(NoSuchElementException.class, () -> invitationService.inviteAll(exec.getId(),
+				List.of(user.getId()), event.getId(), track.getId(), RoleTitle.PC_CHAIR));
+		assertFalse(attendeeRepository.existsByUserIdAndEventIdAndTrackId(user.getId(), event.getId(),
+				track.getId()));
+	}
+
+	@Test
+	public void concurrentInvitesTest() throws Exception {
+
+		// Given
+		userRepository.save(exec);
+		eventRepository.save(event);
+		trackRepository.save(track);
+		Attendee execAttendee = invitationService.enroll(exec.getId(), event.getId(), null, RoleTitle.GENERAL_CHAIR);
+		invitationService.accept(exec.getId(), execAttendee.getId());
+		execAttendee = invitationService.enroll(exec.getId(), event.getId(), track.getId(), RoleTitle.PC_CHAIR);
+		invitationService.accept(exec.getId(), execAttendee.getId());
+		int invitees = 20;
+		int concurrentInvites = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(concurrentInvites);
+
+		try {
+			for (int i = 0; i < invitees; i++) {
+				AppUser invitee = userRepository.save(new AppUser(new Email("invitee" + i + "@test.test"),
+						new Name("name"), new Name("name"), null, null, null));
+				Long trackId = (i % 2 == 0) ? track.getId() : null;
+				Callable<Boolean> invite = () -> {
+					try {
+						invitationService.invite(exec.getId(), invitee.getId(), event.getId(),
+								trackId, RoleTitle.ATTENDEE);
+						return true;
+					} catch (IllegalArgumentException e) {
+						return false;
+					}
+				};
+				Callable<Boolean> inviteAll = () -> invitationService.inviteAll(exec.getId(),
+						List.of(invitee.getId()), event.getId(), trackId, RoleTitle.ATTENDEE)
+						.get(0).getOutcome() == InvitationOutcome.INVITED;
+
+				// When single and batch invitations race
+				int invited = 0;
+				List<Callable<Boolean>> invites = new ArrayList<>();
+				for (int j = 0; j < concurrentInvites; j++) {
+					invites.add((j % 2 == 0) ? invite : inviteAll);
+				}
+				for (Future<Boolean> result : executor.invokeAll(invites)) {
+					invited += result.get() ? 1 : 0;
+				}
+
+				// Then exactly one of them invites, whether for a track or for the whole event
+				assertEquals(1, invited);
+				assertEquals(1, attendeeService.findAttendance(invitee.getId(), event.getId(), null, false)
+						.size());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
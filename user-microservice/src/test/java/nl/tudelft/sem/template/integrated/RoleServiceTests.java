@@ -6,25 +6,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import nl.tudelft.sem.template.Application;
 import nl.tudelft.sem.template.authentication.AuthManager;
-import nl.tudelft.sem.template.domain.attendee.Attendee;
 import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
-import nl.tudelft.sem.template.domain.attendee.Confirmation;
-import nl.tudelft.sem.template.domain.attendee.Role;
-import nl.tudelft.sem.template.domain.event.Event;
-import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.domain.user.AppUser;
 import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.domain.user.Name;
 import nl.tudelft.sem.template.domain.user.UserRepository;
 import nl.tudelft.sem.template.enums.RoleTitle;
-import nl.tudelft.sem.template.services.AttendeeService;
 import nl.tudelft.sem.template.services.InvitationService;
+import nl.tudelft.sem.template.services.PermissionCache;
 import nl.tudelft.sem.template.services.RoleService;
+import nl.tudelft.sem.template.services.UserSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +32,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith({ SpringExtension.class, MockitoExtension.class })
 @SpringBootTest(classes = Application.class)
@@ -47,8 +44,8 @@ public class RoleServiceTests {
     private static AppUser user;
     private static Long eventId;
     private static Long trackId;
-    private static Attendee role;
-    private static List<Attendee> roles;
+    private static OptionalInt chair;
+    private static OptionalInt attendee;
     private static Email userEmail;
 
     @MockBean
@@ -57,11 +54,14 @@ public class RoleServiceTests {
     private AuthManager authManager;
     @MockBean
     private AttendeeRepository attendeeRepository;
+    // Mocked, as the index cannot be built from the mocked repository on startup
     @MockBean
-    private transient AttendeeService attendeeService;
+    private transient UserSearchIndex userSearchIndex;
     @InjectMocks
     @Autowired
     private transient RoleService roleService;
+    @Autowired
+    private transient PermissionCache permissionCache;
 
     /**
      * Set up the commonly used objects for role service testing.
@@ -70,44 +70,43 @@ public class RoleServiceTests {
     public void setup() {
         userEmail = new Email("test@test.net");
         user = new AppUser(userEmail, new Name("name"), new Name("name"));
+        user.setId(7L);
         eventId = 33L;
         trackId = 520L;
-        role = new Attendee(new Role(RoleTitle.PC_CHAIR), new Confirmation(true),
-                new Event(), new Track(), user);
-        roles = new ArrayList<>();
-        roles.add(role);
+        chair = OptionalInt.of(RoleTitle.PC_CHAIR.getPermission());
+        attendee = OptionalInt.of(RoleTitle.ATTENDEE.getPermission());
         when(authManager.getEmail()).thenReturn(userEmail.toString());
     }
 
     @Test
     public void hasRightPermissionTest() {
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(attendeeService.getFilteredAttendance(user.getId(), eventId, trackId, true)).thenReturn(roles);
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(chair);
 
         assertTrue(roleService.hasPermission(authManager, eventId, trackId, 1));
         verify(authManager, times(1)).getEmail();
         verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(attendeeService, times(1)).getFilteredAttendance(user.getId(), eventId, trackId, true);
+        verify(attendeeRepository, times(1)).findMinimumPermission(user.getId(), eventId, trackId);
     }
 
     @Test
     public void hasBetterPermissionTest() {
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(attendeeService.getFilteredAttendance(user.getId(), eventId, trackId, true)).thenReturn(roles);
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(chair);
         assertTrue(roleService.hasPermission(authManager, eventId, trackId, 4));
         verify(authManager, times(1)).getEmail();
         verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(attendeeService, times(1)).getFilteredAttendance(user.getId(), eventId, trackId, true);
+        verify(attendeeRepository, times(1)).findMinimumPermission(user.getId(), eventId, trackId);
     }
 
     @Test
     public void hasNoPermissionTest() {
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(attendeeService.getFilteredAttendance(user.getId(), eventId, trackId, true)).thenReturn(roles);
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(chair);
         assertFalse(roleService.hasPermission(authManager, eventId, trackId, 0));
         verify(authManager, times(1)).getEmail();
         verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(attendeeService, times(1)).getFilteredAttendance(user.getId(), eventId, trackId, true);
+        verify(attendeeRepository, times(1)).findMinimumPermission(user.getId(), eventId, trackId);
     }
 
     @Test
@@ -118,14 +117,58 @@ public class RoleServiceTests {
         verify(userRepository, times(1)).findByEmail(userEmail);
     }
 
+    @Test
+    public void notAttendingTest() {
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(OptionalInt.empty());
+        assertFalse(roleService.hasPermission(authManager, eventId, trackId, 4));
+        verify(attendeeRepository, times(1)).findMinimumPermission(user.getId(), eventId, trackId);
+    }
+
     @Test
     public void notConfirmedTest() {
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
-        when(attendeeService.getFilteredAttendance(user.getId(), eventId, trackId, true)).thenReturn(roles);
-        role.setConfirmation(false);
+        // Only confirmed roles count towards the permission
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(OptionalInt.empty());
         assertFalse(roleService.hasPermission(authManager, eventId, trackId, 0));
         verify(authManager, times(1)).getEmail();
         verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(attendeeService, times(1)).getFilteredAttendance(user.getId(), eventId, trackId, true);
+        verify(attendeeRepository, times(1)).findMinimumPermission(user.getId(), eventId, trackId);
+    }
+
+    @Test
+    public void repeatedCheckIsServedFromCache() {
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(chair);
+        assertTrue(roleService.hasPermission(authManager, eventId, trackId, 1));
+        assertFalse(roleService.hasPermission(authManager, eventId, trackId, 0));
+        verify(attendeeRepository, times(1)).findMinimumPermission(user.getId(), eventId, trackId);
+    }
+
+    @Test
+    public void evictedCheckIsRecomputed() {
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(chair, attendee);
+        assertTrue(roleService.hasPermission(authManager, eventId, trackId, 1));
+        permissionCache.evict(user.getId(), eventId);
+        assertFalse(roleService.hasPermission(authManager, eventId, trackId, 1));
+        verify(attendeeRepository, times(2)).findMinimumPermission(user.getId(), eventId, trackId);
+    }
+
+    @Test
+    public void checkDuringEvictingTransactionIsEvictedOnCompletion() {
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
+        when(attendeeRepository.findMinimumPermission(user.getId(), eventId, trackId)).thenReturn(chair, attendee);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // A check racing the transaction caches the permission it still reads
+            permissionCache.evict(user.getId(), eventId);
+            assertTrue(roleService.hasPermission(authManager, eventId, trackId, 1));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(completion -> completion.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertFalse(roleService.hasPermission(authManager, eventId, trackId, 1));
     }
 }
@@ -0,0 +1,103 @@
+package nl.tudelft.sem.template.integrated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.domain.attendee.Attendee;
+import nl.tudelft.sem.template.domain.attendee.AttendeeRepository;
+import nl.tudelft.sem.template.domain.attendee.Confirmation;
+import nl.tudelft.sem.template.domain.attendee.Role;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.track.Description;
+import nl.tudelft.sem.template.domain.track.PaperRequirement;
+import nl.tudelft.sem.template.domain.track.Title;
+import nl.tudelft.sem.template.domain.track.Track;
+import nl.tudelft.sem.template.domain.track.TrackRepository;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.domain.user.Name;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.enums.RoleTitle;
+import nl.tudelft.sem.template.model.PaperType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class SchemaMigrationTests {
+
+    @Autowired
+    private transient JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private transient AttendeeRepository attendeeRepository;
+
+    @Autowired
+    private transient UserRepository userRepository;
+
+    @Autowired
+    private transient EventRepository eventRepository;
+
+    @Autowired
+    private transient TrackRepository trackRepository;
+
+    @Test
+    public void lookupIndexesExistTest() {
+        String[] indexes = {"IDX_ATTENDEES_EVENT_CONFIRMATION", "IDX_TRACKS_EVENT_TITLE", "IDX_EVENTS_START_DATE",
+            "IDX_EVENTS_END_DATE", "IDX_EVENTS_NAME", "IDX_ATTENDEES_EVENT_ROLE"};
+        for (String index : indexes) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(DISTINCT INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = ?", Integer.class, index);
+            assertEquals(1, count, index);
+        }
+    }
+
+    @Test
+    public void eventWithoutDescriptionIsStoredTest() {
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        Event event = eventRepository.saveAndFlush(new Event(date, date, new IsCancelled(false),
+                new EventName("name"), new EventDescription(null)));
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT description FROM events WHERE id = ?", String.class, event.getId()));
+        assertNull(eventRepository.findById(event.getId()).get().toModelEvent().getDescription());
+    }
+
+    @Test
+    public void duplicateAttendanceRejectedTest() {
+        LocalDate date0 = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        LocalDate date1 = LocalDate.parse("2024-01-10T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        AppUser user = userRepository.save(new AppUser(new Email("test@test.net"), new Name("name"), new Name("name")));
+        Event event = eventRepository.save(new Event(date0, date1, new IsCancelled(false),
+                new EventName("name"), new EventDescription("desc")));
+        Track track = trackRepository.save(new Track(new Title("title"), new Description("desc"),
+                new PaperRequirement(PaperType.FULL_PAPER), date0, date1, event));
+
+        attendeeRepository.saveAndFlush(new Attendee(new Role(RoleTitle.PC_CHAIR),
+                new Confirmation(true), event, track, user));
+        assertThrows(DataIntegrityViolationException.class, () -> attendeeRepository.saveAndFlush(
+                new Attendee(new Role(RoleTitle.ATTENDEE), new Confirmation(false), event, track, user)));
+
+        // Attendances of the whole event have no track, yet are unique as well
+        attendeeRepository.saveAndFlush(new Attendee(new Role(RoleTitle.GENERAL_CHAIR),
+                new Confirmation(true), event, null, user));
+        assertThrows(DataIntegrityViolationException.class, () -> attendeeRepository.saveAndFlush(
+                new Attendee(new Role(RoleTitle.ATTENDEE), new Confirmation(false), event, null, user)));
+    }
+}
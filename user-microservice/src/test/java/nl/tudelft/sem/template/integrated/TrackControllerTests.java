@@ -14,17 +14,16 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import nl.tudelft.sem.template.Application;
 import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.authentication.PrincipalResolver;
 import nl.tudelft.sem.template.controllers.TrackController;
 import nl.tudelft.sem.template.domain.event.Event;
 import nl.tudelft.sem.template.domain.track.Description;
 import nl.tudelft.sem.template.domain.track.PaperRequirement;
 import nl.tudelft.sem.template.domain.track.Title;
-import nl.tudelft.sem.template.domain.user.Email;
 import nl.tudelft.sem.template.model.PaperType;
 import nl.tudelft.sem.template.model.Track;
 import nl.tudelft.sem.template.services.RoleService;
 import nl.tudelft.sem.template.services.TrackService;
-import nl.tudelft.sem.template.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,11 +41,10 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ActiveProfiles("test")
 public class TrackControllerTests {
 
-    private static Email userEmail;
     private Track modelTrack;
     private nl.tudelft.sem.template.domain.track.Track domainTrack;
     @Mock
-    private UserService userService;
+    private PrincipalResolver principalResolver;
 
     @Mock
     private AuthManager authManager;
@@ -65,7 +63,6 @@ public class TrackControllerTests {
      */
     @BeforeEach
     public void setup() {
-        userEmail = new Email("test@test.net");
         Title title = new Title("Track Title");
         Description description = new Description("Track Description");
         PaperRequirement paperRequirement = new PaperRequirement(PaperType.FULL_PAPER);
@@ -175,7 +172,7 @@ public class TrackControllerTests {
         )).thenReturn(false);
 
         // Run
-        ResponseEntity<Void> response = trackController.updateTrack(modelTrack);
+        ResponseEntity<Void> response = trackController.updateTrack(modelTrack, null);
 
         // Check
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -200,10 +197,10 @@ public class TrackControllerTests {
 
         when(trackService.updateTrack(modelTrack.getId(), modelTrack.getTitle(), modelTrack.getDescription(),
                 modelTrack.getSubmitDeadline(), modelTrack.getReviewDeadline(),
-                modelTrack.getPaperType(), modelTrack.getEventId())).thenThrow(new IllegalArgumentException());
+                modelTrack.getPaperType(), modelTrack.getEventId(), null)).thenThrow(new IllegalArgumentException());
 
         // Run
-        ResponseEntity<Void> response = trackController.updateTrack(modelTrack);
+        ResponseEntity<Void> response = trackController.updateTrack(modelTrack, null);
 
         // Check
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -216,7 +213,7 @@ public class TrackControllerTests {
                 eq(1));
         verify(trackService, times(1)).updateTrack(modelTrack.getId(),
                 modelTrack.getTitle(), modelTrack.getDescription(), modelTrack.getSubmitDeadline(),
-                modelTrack.getReviewDeadline(), modelTrack.getPaperType(), modelTrack.getEventId());
+                modelTrack.getReviewDeadline(), modelTrack.getPaperType(), modelTrack.getEventId(), null);
     }
 
     @Test
@@ -231,10 +228,10 @@ public class TrackControllerTests {
 
         when(trackService.updateTrack(modelTrack.getId(), modelTrack.getTitle(), modelTrack.getDescription(),
                 modelTrack.getSubmitDeadline(), modelTrack.getReviewDeadline(),
-                modelTrack.getPaperType(), modelTrack.getEventId())).thenThrow(new NoSuchElementException());
+                modelTrack.getPaperType(), modelTrack.getEventId(), null)).thenThrow(new NoSuchElementException());
 
         // Run
-        ResponseEntity<Void> response = trackController.updateTrack(modelTrack);
+        ResponseEntity<Void> response = trackController.updateTrack(modelTrack, null);
 
         // Check
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -247,7 +244,7 @@ public class TrackControllerTests {
                 eq(1));
         verify(trackService, times(1)).updateTrack(modelTrack.getId(),
                 modelTrack.getTitle(), modelTrack.getDescription(), modelTrack.getSubmitDeadline(),
-                modelTrack.getReviewDeadline(), modelTrack.getPaperType(), modelTrack.getEventId());
+                modelTrack.getReviewDeadline(), modelTrack.getPaperType(), modelTrack.getEventId(), null);
     }
 
     @Test
@@ -262,10 +259,10 @@ public class TrackControllerTests {
 
         when(trackService.updateTrack(modelTrack.getId(), modelTrack.getTitle(), modelTrack.getDescription(),
                 modelTrack.getSubmitDeadline(), modelTrack.getReviewDeadline(),
-                modelTrack.getPaperType(), modelTrack.getEventId())).thenReturn(domainTrack);
+                modelTrack.getPaperType(), modelTrack.getEventId(), null)).thenReturn(domainTrack);
 
         // Run
-        ResponseEntity<Void> response = trackController.updateTrack(modelTrack);
+        ResponseEntity<Void> response = trackController.updateTrack(modelTrack, null);
 
         // Check
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
@@ -278,7 +275,7 @@ public class TrackControllerTests {
                 eq(1));
         verify(trackService, times(1)).updateTrack(modelTrack.getId(),
                 modelTrack.getTitle(), modelTrack.getDescription(), modelTrack.getSubmitDeadline(),
-                modelTrack.getReviewDeadline(), modelTrack.getPaperType(), modelTrack.getEventId());
+                modelTrack.getReviewDeadline(), modelTrack.getPaperType(), modelTrack.getEventId(), null);
     }
 
     @Test
@@ -408,75 +405,67 @@ public class TrackControllerTests {
     @Test
     public void getTrackByIdWithoutPermission() {
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(false);
+        when(principalResolver.getUserId()).thenReturn(null);
 
         // Run
-        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L));
+        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L), null);
 
         // Check
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
     }
 
     @Test
     public void getTrackByIdInvalidTrack() {
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
         when(trackService.getTrackById(33L)).thenThrow(new IllegalArgumentException());
 
         // Run
-        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L));
+        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L), null);
 
         // Check
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
         verify(trackService, times(1)).getTrackById(eq(33L));
     }
 
     @Test
     public void getTrackByIdNonExistTrack() {
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
         when(trackService.getTrackById(33L)).thenThrow(new NoSuchElementException());
 
         // Run
-        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L));
+        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L), null);
 
         // Check
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
         verify(trackService, times(1)).getTrackById(eq(33L));
     }
 
     @Test
     public void getTrackByIdSuccess() {
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
         when(trackService.getTrackById(33L)).thenReturn(domainTrack);
 
         // Run
-        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L));
+        ResponseEntity<Track> response = trackController.getTrackByID(Math.toIntExact(33L), null);
 
         // Check
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(modelTrack, response.getBody());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
         verify(trackService, times(1)).getTrackById(eq(33L));
     }
 
@@ -486,8 +475,7 @@ public class TrackControllerTests {
         Title title = new Title("Test title");
         PaperType p = PaperType.FULL_PAPER;
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(false);
+        when(principalResolver.getUserId()).thenReturn(null);
 
         // Run
         ResponseEntity<List<Track>> response = trackController.getTrack(title.toString(), Math.toIntExact(eventId), p);
@@ -496,8 +484,7 @@ public class TrackControllerTests {
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
     }
 
     @Test
@@ -506,8 +493,7 @@ public class TrackControllerTests {
         Title title = new Title("Test title");
         PaperType p = PaperType.FULL_PAPER;
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
         when(trackService.getTrackByTitleInEvent(title, eventId)).thenReturn(domainTrack);
         // Run
         ResponseEntity<List<Track>> response = trackController.getTrack(title.toString(), Math.toIntExact(eventId), p);
@@ -516,8 +502,7 @@ public class TrackControllerTests {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(modelTrack, Objects.requireNonNull(response.getBody()).get(0));
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
         verify(trackService, times(1)).getTrackByTitleInEvent(title, eventId);
     }
 
@@ -526,8 +511,7 @@ public class TrackControllerTests {
         Title title = new Title("Test title");
         PaperType p = PaperType.FULL_PAPER;
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
         when(trackService.getTrackByTitle(title)).thenReturn(Collections.singletonList(domainTrack));
         // Run
         ResponseEntity<List<Track>> response = trackController.getTrack(title.toString(), null, p);
@@ -536,8 +520,7 @@ public class TrackControllerTests {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(modelTrack, Objects.requireNonNull(response.getBody()).get(0));
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
         verify(trackService, times(1)).getTrackByTitle(title);
 
     }
@@ -547,8 +530,7 @@ public class TrackControllerTests {
         Long eventId = 52L;
         PaperType p = PaperType.FULL_PAPER;
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
         when(trackService.getTrackByParentEvent(eventId)).thenThrow(new NoSuchElementException());
 
         // Run
@@ -558,8 +540,7 @@ public class TrackControllerTests {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
         verify(trackService, times(1)).getTrackByParentEvent(eventId);
 
     }
@@ -568,8 +549,7 @@ public class TrackControllerTests {
     public void getTrackNullInput() {
         PaperType p = PaperType.FULL_PAPER;
         // Mock
-        when(authManager.getEmail()).thenReturn(userEmail.toString());
-        when(userService.userExistsByEmail(userEmail)).thenReturn(true);
+        when(principalResolver.getUserId()).thenReturn(1L);
 
         // Run
         ResponseEntity<List<Track>> response = trackController.getTrack(null, null, p);
@@ -578,7 +558,6 @@ public class TrackControllerTests {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 
         // Verify
-        verify(authManager, times(1)).getEmail();
-        verify(userService, times(1)).userExistsByEmail(userEmail);
+        verify(principalResolver, times(1)).getUserId();
     }
 }
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -22,13 +23,16 @@ import nl.tudelft.sem.template.domain.track.Title;
 import nl.tudelft.sem.template.domain.track.Track;
 import nl.tudelft.sem.template.domain.track.TrackRepository;
 import nl.tudelft.sem.template.model.PaperType;
+import nl.tudelft.sem.template.services.EntityCache;
 import nl.tudelft.sem.template.services.TrackService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -50,6 +54,8 @@ public class TrackServiceTests {
     private transient TrackRepository trackRepository;
     @Mock
     private transient EventRepository eventRepository;
+    @Spy
+    private transient EntityCache entityCache = new EntityCache(new SimpleMeterRegistry());
     @InjectMocks
     private transient TrackService trackService;
 
@@ -163,14 +169,14 @@ public class TrackServiceTests {
     public void updateTrackNoIdExistTest() {
         when(trackRepository.findByTitleAndEventId(eq(title), eq(2L)))
                 .thenReturn(Optional.empty());
-        when(trackRepository.existsById(0L)).thenReturn(false);
+        when(trackRepository.findById(0L)).thenReturn(Optional.empty());
         NoSuchElementException exception = assertThrows(
                 NoSuchElementException.class,
                 () -> trackService.updateTrack(0L, title.toString(), null, null, null,
                         PaperType.FULL_PAPER, 2L));
         assertEquals("Track with id:" + 0L + " does not exist.", exception.getMessage());
         verify(trackRepository, times(1)).findByTitleAndEventId(eq(title), eq(2L));
-        verify(trackRepository, times(1)).existsById(eq(0L));
+        verify(trackRepository, times(1)).findById(eq(0L));
         verify(trackRepository, times(0)).save(eq(fullTrack));
     }
 
@@ -178,7 +184,7 @@ public class TrackServiceTests {
     public void updateTrackEventNotExistTest() {
         when(trackRepository.findByTitleAndEventId(eq(title), eq(2L)))
                 .thenReturn(Optional.empty());
-        when(trackRepository.existsById(0L)).thenReturn(true);
+        when(trackRepository.findById(0L)).thenReturn(Optional.of(fullTrack));
         when(eventRepository.findById(eq(2L))).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(
@@ -189,7 +195,7 @@ public class TrackServiceTests {
 
         // Verify the correct method is invoked
         verify(trackRepository, times(1)).findByTitleAndEventId(eq(title), eq(2L));
-        verify(trackRepository, times(1)).existsById(eq(0L));
+        verify(trackRepository, times(1)).findById(eq(0L));
         verify(eventRepository, times(1)).findById(eq(2L));
     }
 
@@ -197,16 +203,27 @@ public class TrackServiceTests {
     public void updateTrackSuccessTest() {
         when(trackRepository.findByTitleAndEventId(eq(title), eq(2023L)))
                 .thenReturn(Optional.empty());
-        when(trackRepository.existsById(0L)).thenReturn(true);
+        when(trackRepository.findById(0L)).thenReturn(Optional.of(fullTrack));
         when(eventRepository.findById(fullTrack.getEvent().getId())).thenReturn(Optional.of(new Event(22L)));
         when(trackRepository.save(fullTrack)).thenReturn(fullTrack);
         trackService.updateTrack(0L, title.toString(), null, null, null,
                 PaperType.FULL_PAPER, fullTrack.getEvent().getId());
         verify(trackRepository, times(1)).findByTitleAndEventId(eq(title), eq(2023L));
-        verify(trackRepository, times(1)).existsById(eq(0L));
+        verify(trackRepository, times(1)).findById(eq(0L));
         verify(trackRepository, times(1)).save(any(Track.class));
     }
 
+    @Test
+    public void updateTrackOutdatedVersionTest() {
+        when(trackRepository.findByTitleAndEventId(eq(title), eq(2023L)))
+                .thenReturn(Optional.empty());
+        when(trackRepository.findById(0L)).thenReturn(Optional.of(fullTrack));
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> trackService.updateTrack(0L, title.toString(), null, null, null,
+                        PaperType.FULL_PAPER, fullTrack.getEvent().getId(), fullTrack.getVersion() + 1));
+        verify(trackRepository, times(0)).save(any(Track.class));
+    }
+
     @Test
     public void getTrackByIdInvalidIdTest() {
         IllegalArgumentException exception = assertThrows(
@@ -0,0 +1,105 @@
+package nl.tudelft.sem.template.integrated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import nl.tudelft.sem.template.Application;
+import nl.tudelft.sem.template.authentication.AuthManager;
+import nl.tudelft.sem.template.controllers.UserController;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.domain.user.Communication;
+import nl.tudelft.sem.template.domain.user.Email;
+import nl.tudelft.sem.template.domain.user.Link;
+import nl.tudelft.sem.template.domain.user.Name;
+import nl.tudelft.sem.template.domain.user.UserAffiliation;
+import nl.tudelft.sem.template.domain.user.UserRepository;
+import nl.tudelft.sem.template.model.User;
+import nl.tudelft.sem.template.services.UserSearchIndex;
+import nl.tudelft.sem.template.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class UserSearchTests {
+
+    @MockBean
+    private AuthManager authManager;
+
+    @Autowired
+    private transient UserRepository userRepository;
+
+    @Autowired
+    private transient UserService userService;
+
+    @Autowired
+    private transient UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private transient UserController userController;
+
+    private AppUser janet;
+
+    /**
+     * Setups an authenticated chair and a few users to find.
+     */
+    @BeforeEach
+    public void setup() {
+        when(authManager.getEmail()).thenReturn("chair@test.net");
+        userRepository.save(new AppUser(new Email("chair@test.net"), new Name("Chair"), new Name("Person")));
+        janet = userRepository.save(new AppUser(new Email("j.jansen@tudelft.nl"), new Name("Janet"), new Name("Jansen"),
+                new UserAffiliation("Leiden"), new Link("link"), new Communication("email")));
+        AppUser jan = new AppUser(new Email("jan@uva.nl"), new Name("Jan"), new Name("de Vries"));
+        jan.setAffiliation(new UserAffiliation("TU Delft"));
+        userRepository.save(jan);
+    }
+
+    private List<String> firstNames(ResponseEntity<List<User>> response) {
+        return response.getBody().stream().map(User::getFirstName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void searchAccountsTest() {
+        ResponseEntity<List<User>> response = userController.searchAccounts("jan", null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("Jan", "Janet"), firstNames(response));
+
+        assertEquals(List.of("Jan"), firstNames(userController.searchAccounts("jan", 1)));
+        assertEquals(List.of("Janet"), firstNames(userController.searchAccounts("JANS", null)));
+        assertEquals(List.of("Jan"), firstNames(userController.searchAccounts("jan delft", null)));
+        assertEquals(List.of(), firstNames(userController.searchAccounts("jan chair", null)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, userController.searchAccounts(" .", null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, userController.searchAccounts("jan", 51).getStatusCode());
+    }
+
+    @Test
+    public void indexFollowsTheUsersTest() {
+        User update = janet.toModelUser();
+        update.setFirstName("Johanna");
+        userService.updateUser(new AppUser(update));
+        assertEquals(List.of(), firstNames(userController.searchAccounts("janet", null)));
+        assertEquals(List.of("Johanna"), firstNames(userController.searchAccounts("joh", null)));
+
+        userService.deleteUser(janet.getId());
+        assertEquals(List.of(), firstNames(userController.searchAccounts("joh", null)));
+
+        // The index is rebuilt from the stored users
+        userSearchIndex.rebuild();
+        assertEquals(List.of("Chair"), firstNames(userController.searchAccounts("chair person", null)));
+        assertEquals(List.of("Jan"), firstNames(userController.searchAccounts("jan", null)));
+    }
+}
@@ -0,0 +1,221 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import nl.tudelft.sem.template.domain.attendee.Attendee;
+import nl.tudelft.sem.template.domain.attendee.Confirmation;
+import nl.tudelft.sem.template.domain.attendee.Role;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.domain.user.AppUser;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.enums.RoleTitle;
+import nl.tudelft.sem.template.logs.LogBatch;
+import nl.tudelft.sem.template.logs.RemovalLog;
+import nl.tudelft.sem.template.logs.attendee.CreatedAttendeeLog;
+import nl.tudelft.sem.template.logs.event.CreatedEventLog;
+import nl.tudelft.sem.template.logs.stream.ChangeStream;
+import nl.tudelft.sem.template.model.LogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class ChangeStreamTests {
+
+    ChangeStream stream;
+    Event event;
+    Event otherEvent;
+    AppUser user;
+
+    /**
+     * An emitter that records what is sent instead of writing it to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        final List<LogEntry> entries = Collections.synchronizedList(new ArrayList<>());
+        final List<String> ids = Collections.synchronizedList(new ArrayList<>());
+        final StringBuffer text = new StringBuffer();
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof LogEntry) {
+                    entries.add((LogEntry) part.getData());
+                } else {
+                    String data = part.getData().toString();
+                    text.append(data);
+                    if (data.startsWith("id:")) {
+                        ids.add(data.substring(3, data.indexOf('\n')));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Setups the stream and the subjects of the published logs.
+     */
+    @BeforeEach
+    public void setup() {
+        stream = new ChangeStream(4, 8, 50, 60_000, new SimpleMeterRegistry());
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        event = new Event(1L, date, date, new IsCancelled(false), new EventName("name"), new EventDescription("desc"));
+        otherEvent = new Event(2L, date, date, new IsCancelled(false), new EventName("name"),
+                new EventDescription("desc"));
+        user = new AppUser(3L);
+    }
+
+    /**
+     * Stops the stream under test.
+     */
+    @AfterEach
+    public void tearDown() {
+        stream.destroy();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private Attendee attendee(Event attended) {
+        return new Attendee(new Role(RoleTitle.ATTENDEE), new Confirmation(false), attended, null, user);
+    }
+
+    @Test
+    void changesAreFilteredByEventAndUserTest() throws InterruptedException {
+        RecordingEmitter all = new RecordingEmitter();
+        RecordingEmitter ofEvent = new RecordingEmitter();
+        RecordingEmitter ofUser = new RecordingEmitter();
+        stream.subscribe(all, null, null, 3L, null);
+        stream.subscribe(ofEvent, 1L, null, 3L, null);
+        stream.subscribe(ofUser, null, 3L, 3L, null);
+        RecordingEmitter ofOtherUser = new RecordingEmitter();
+        stream.subscribe(ofOtherUser, null, null, 4L, null);
+
+        stream.publish(new CreatedEventLog(event));
+        stream.publish(new CreatedEventLog(otherEvent));
+        stream.publish(new CreatedAttendeeLog(attendee(otherEvent)));
+
+        await(() -> all.entries.size() == 3);
+        await(() -> ofEvent.entries.size() == 1 && ofUser.entries.size() == 1);
+        // The attendance of user 3 is not sent to another user, even without a user filter
+        await(() -> ofOtherUser.entries.size() == 2);
+        assertTrue(ofOtherUser.entries.stream().allMatch(entry -> entry.getLogType() == LogEntry.LogTypeEnum.EVENT));
+        assertEquals(List.of("1", "2", "3"), all.ids);
+        assertEquals(LogEntry.LogTypeEnum.EVENT, ofEvent.entries.get(0).getLogType());
+        assertEquals(1L, ofEvent.entries.get(0).getSubjectId());
+        assertEquals(LogEntry.LogTypeEnum.ATTENDEE, ofUser.entries.get(0).getLogType());
+        assertTrue(all.text.toString().contains("event:attendee"));
+    }
+
+    @Test
+    void batchedRemovalsReachTheirUserTest() throws InterruptedException {
+        RecordingEmitter ofUser = new RecordingEmitter();
+        stream.subscribe(ofUser, null, 3L, 3L, null);
+        RecordingEmitter ofOtherUser = new RecordingEmitter();
+        stream.subscribe(ofOtherUser, null, 4L, 4L, null);
+
+        stream.publishAll(new LogBatch(List.of(
+                new RemovalLog(LogType.ATTENDEE, 10L, 1L, 3L),
+                new RemovalLog(LogType.ATTENDEE, 11L, 1L, 4L),
+                new RemovalLog(LogType.EVENT, 1L, 1L, null))));
+
+        await(() -> ofUser.entries.size() == 1 && ofOtherUser.entries.size() == 1);
+        assertEquals(10L, ofUser.entries.get(0).getSubjectId());
+        assertEquals(LogEntry.LogKindEnum.REMOVAL, ofUser.entries.get(0).getLogKind());
+        assertEquals(11L, ofOtherUser.entries.get(0).getSubjectId());
+    }
+
+    @Test
+    void reconnectingSubscriberResumesAfterLastEventIdTest() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            stream.publish(new CreatedEventLog(event));
+        }
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        stream.subscribe(resumed, null, null, 3L, 1L);
+        RecordingEmitter fresh = new RecordingEmitter();
+        stream.subscribe(fresh, null, null, 3L, null);
+        stream.publish(new CreatedEventLog(event));
+
+        await(() -> resumed.ids.size() == 3 && fresh.ids.size() == 1);
+        assertEquals(List.of("2", "3", "4"), resumed.ids);
+        assertEquals(List.of("4"), fresh.ids);
+    }
+
+    @Test
+    void overflowingSubscriberIsDisconnectedTest() throws InterruptedException {
+        for (int i = 0; i < 8; i++) {
+            stream.publish(new CreatedEventLog(event));
+        }
+
+        // the replay exceeds the buffer of four pending changes
+        RecordingEmitter slow = new RecordingEmitter();
+        stream.subscribe(slow, null, null, 3L, 0L);
+
+        await(() -> slow.completed);
+        assertEquals(0, stream.getSubscriberCount());
+    }
+
+    @Test
+    void heartbeatsAreSentTest() throws InterruptedException {
+        RecordingEmitter idle = new RecordingEmitter();
+        stream.subscribe(idle, null, null, 3L, null);
+
+        await(() -> idle.text.toString().contains(":heartbeat"));
+        assertEquals(1, stream.getSubscriberCount());
+    }
+
+    @Test
+    void blockedSubscriberDoesNotHoldBackOthersTest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter blocked = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(builder);
+            }
+        };
+        RecordingEmitter other = new RecordingEmitter();
+        stream.subscribe(blocked, null, null, 3L, null);
+        stream.subscribe(other, null, null, 3L, null);
+
+        stream.publish(new CreatedEventLog(event));
+        stream.publish(new CreatedEventLog(event));
+        await(() -> other.ids.size() == 2);
+
+        // The next heartbeat drops the blocked subscriber, which is completed once its write returns
+        await(() -> stream.getSubscriberCount() == 1);
+        assertFalse(blocked.completed);
+        release.countDown();
+        await(() -> blocked.completed);
+        assertEquals(1, stream.getSubscriberCount());
+    }
+}
@@ -0,0 +1,88 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import nl.tudelft.sem.template.services.EventLocks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class EventLocksTests {
+
+    SimpleMeterRegistry meterRegistry;
+    EventLocks eventLocks;
+
+    /**
+     * Setups the locks over a transaction manager that does nothing.
+     */
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventLocks = new EventLocks(mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    public void conflictsAreRetriedTest() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = eventLocks.mutate(1L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.counter("event.mutations.retries").count());
+
+        // The last conflict is surfaced
+        attempts.set(0);
+        assertThrows(OptimisticLockingFailureException.class, () -> eventLocks.mutate(1L, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        assertEquals(3, attempts.get());
+
+        // Other failures are not retried
+        attempts.set(0);
+        assertThrows(IllegalStateException.class, () -> eventLocks.mutate(1L, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void mutationsOfAnEventAreSerializedTest() throws Exception {
+        int threads = 8;
+        int mutations = 1000;
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger mostInside = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < mutations; i++) {
+            results.add(executor.submit(() -> eventLocks.mutate(42L, () -> {
+                mostInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                Thread.yield();
+                return inside.decrementAndGet();
+            })));
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(0, result.get());
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        assertEquals(1, mostInside.get());
+    }
+}
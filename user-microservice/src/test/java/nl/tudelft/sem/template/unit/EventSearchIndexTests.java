@@ -0,0 +1,75 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.EventRepository;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.logs.event.CreatedEventLog;
+import nl.tudelft.sem.template.services.EventSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventSearchIndexTests {
+
+    EventRepository eventRepository;
+    EventSearchIndex index;
+    LocalDate date;
+
+    /**
+     * Setups an index over a repository holding two events.
+     */
+    @BeforeEach
+    public void setup() {
+        date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        eventRepository = mock(EventRepository.class);
+        when(eventRepository.findAll()).thenReturn(List.of(
+                event(1L, "Café Conférence", "Coffee and talks"),
+                event(2L, "Talks", "Conference talks, and more talks")));
+        index = new EventSearchIndex(eventRepository);
+        index.rebuild();
+    }
+
+    private Event event(Long id, String name, String description) {
+        return new Event(id, date, date, new IsCancelled(false), new EventName(name), new EventDescription(description));
+    }
+
+    @Test
+    public void searchRanksMatchesTest() {
+        // A whole token in the name weighs most, repeated tokens add up
+        assertEquals(List.of(1L, 2L), index.search("conference"));
+        assertEquals(List.of(2L, 1L), index.search("talks"));
+        assertEquals(List.of(2L, 1L), index.search("TALK"));
+
+        // Every term has to match, as a token or as its prefix
+        assertEquals(List.of(1L), index.search("conf caf"));
+        assertEquals(List.of(), index.search("conference tea"));
+        assertEquals(List.of(), index.search("!"));
+    }
+
+    @Test
+    public void updatesReplaceTheIndexedTokensTest() {
+        Event renamed = event(1L, "Tea party", "");
+        index.reindex(new CreatedEventLog(renamed));
+        assertEquals(List.of(1L), index.search("tea"));
+        assertEquals(List.of(2L), index.search("conference"));
+
+        index.put(event(3L, "Tea tasting", null));
+        assertEquals(List.of(1L, 3L), index.search("tea"));
+
+        index.removeAfterCommit(1L);
+        assertEquals(List.of(3L), index.search("tea"));
+
+        // The index is rebuilt from the stored events
+        index.rebuild();
+        assertEquals(List.of(), index.search("tea"));
+        assertEquals(List.of(1L), index.search("cafe"));
+    }
+}
@@ -0,0 +1,72 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.Log;
+import nl.tudelft.sem.template.logs.LogFactory;
+import nl.tudelft.sem.template.logs.event.CreatedEventLog;
+import nl.tudelft.sem.template.logs.event.EventLogFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogFactoryTests {
+
+    Event event;
+
+    /**
+     * Setups the variables for the tests.
+     */
+    @BeforeEach
+    public void setup() {
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        event = new Event(123L, date, date, new IsCancelled(false), new EventName("name"), new EventDescription("desc"));
+    }
+
+    @Test
+    void factoriesAreSharedTest() {
+        for (LogType logType : LogType.values()) {
+            assertSame(LogFactory.loadFactory(logType), LogFactory.loadFactory(logType));
+        }
+        assertTrue(LogFactory.loadFactory(LogType.EVENT) instanceof EventLogFactory);
+    }
+
+    @Test
+    void logsCaptureTheirOwnTimeTest() throws InterruptedException {
+        Log first = new CreatedEventLog(event);
+        Thread.sleep(5);
+        Log second = new CreatedEventLog(event);
+
+        assertTrue(second.getLogNanos() > first.getLogNanos());
+        assertTrue(second.getLogInstant().isAfter(first.getLogInstant()));
+        assertFalse(second.getLogTime().isBefore(first.getLogTime()));
+    }
+
+    @Test
+    void summaryIsRenderedOnceTest() {
+        Log log = new CreatedEventLog(event);
+        assertSame(log.getLogSummary(), log.getLogSummary());
+        assertTrue(log.getLogSummary().endsWith(log.getLogTime().toString()));
+    }
+
+    @Test
+    void summaryOfUnsavedSubjectIsNotKeptTest() {
+        event.setId(null);
+        Log log = new CreatedEventLog(event);
+        String unsaved = log.getLogSummary();
+
+        event.setId(456L);
+        assertNotSame(unsaved, log.getLogSummary());
+        assertEquals("Event 456 has been successfully created!\n" + log.getLogTime(), log.getLogSummary());
+    }
+}
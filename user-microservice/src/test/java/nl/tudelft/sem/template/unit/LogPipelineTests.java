@@ -0,0 +1,147 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import nl.tudelft.sem.template.enums.BackpressurePolicy;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.pipeline.LogPipeline;
+import nl.tudelft.sem.template.logs.pipeline.LogSink;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogPipelineTests {
+
+    MeterRegistry meterRegistry;
+    List<LogRecord> written;
+    List<Integer> batchSizes;
+    LogPipeline pipeline;
+
+    /**
+     * Setups the sink and the metrics registry for the tests.
+     */
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        written = Collections.synchronizedList(new ArrayList<>());
+        batchSizes = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Stops the pipeline under test.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    private static LogRecord record(long subjectId) {
+        return new LogRecord(LogType.ATTENDEE, LogKind.MODIFICATION, subjectId, null, null, Instant.EPOCH, Map.of());
+    }
+
+    private LogSink collecting() {
+        return batch -> {
+            batchSizes.add(batch.size());
+            written.addAll(batch);
+        };
+    }
+
+    /**
+     * A sink that signals when it receives its first batch and then waits to be released.
+     */
+    private LogSink blocking(CountDownLatch started, CountDownLatch release) {
+        return batch -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        };
+    }
+
+    @Test
+    void recordsAreDeliveredInOrderAndInBatchesTest() throws InterruptedException {
+        pipeline = new LogPipeline(64, 16, BackpressurePolicy.BLOCK, 1, List.of(collecting()), meterRegistry);
+        List<LogRecord> expected = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            pipeline.publish(record(i));
+            expected.add(record(i));
+        }
+
+        assertTrue(pipeline.flush(5_000));
+        assertEquals(expected, written);
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 16));
+        assertEquals(0, meterRegistry.get("logs.pipeline.dropped").counter().count());
+    }
+
+    @Test
+    void failingSinkDoesNotStopOtherSinksTest() throws InterruptedException {
+        LogSink failing = batch -> {
+            throw new IllegalStateException("sink down");
+        };
+        pipeline = new LogPipeline(64, 16, BackpressurePolicy.BLOCK, 1, List.of(failing, collecting()), meterRegistry);
+        pipeline.publish(record(1L));
+
+        assertTrue(pipeline.flush(5_000));
+        assertEquals(List.of(record(1L)), written);
+    }
+
+    @Test
+    void dropPolicyDiscardsOverflowTest() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline = new LogPipeline(2, 16, BackpressurePolicy.DROP, 1, List.of(blocking(started, release)),
+                meterRegistry);
+
+        pipeline.publish(record(0L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (long i = 1; i <= 5; i++) {
+            pipeline.publish(record(i));
+        }
+        assertEquals(2, meterRegistry.get("logs.pipeline.queued").gauge().value());
+        assertEquals(3, meterRegistry.get("logs.pipeline.dropped").counter().count());
+
+        release.countDown();
+        assertTrue(pipeline.flush(5_000));
+        assertEquals(List.of(record(0L), record(1L), record(2L)), written);
+    }
+
+    @Test
+    void samplePolicyKeepsOneInRateTest() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline = new LogPipeline(1, 16, BackpressurePolicy.SAMPLE, 3, List.of(blocking(started, release)),
+                meterRegistry);
+
+        pipeline.publish(record(0L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        pipeline.publish(record(1L));
+        // the first two overflowing records are dropped, the third waits for space
+        pipeline.publish(record(2L));
+        pipeline.publish(record(3L));
+        Thread sampled = new Thread(() -> pipeline.publish(record(4L)));
+        sampled.start();
+
+        assertEquals(2, meterRegistry.get("logs.pipeline.dropped").counter().count());
+        release.countDown();
+        sampled.join(5_000);
+        assertTrue(pipeline.flush(5_000));
+        assertEquals(List.of(record(0L), record(1L), record(4L)), written);
+    }
+}
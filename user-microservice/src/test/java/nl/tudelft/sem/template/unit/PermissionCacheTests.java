@@ -0,0 +1,60 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import nl.tudelft.sem.template.services.PermissionCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PermissionCacheTests {
+
+    PermissionCache permissionCache;
+    AtomicInteger loads;
+
+    /**
+     * Setups an empty cache and counts the decisions it computes.
+     */
+    @BeforeEach
+    public void setup() {
+        permissionCache = new PermissionCache(new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    private void checkAll() {
+        Supplier<Integer> loader = () -> {
+            loads.incrementAndGet();
+            return 1;
+        };
+        permissionCache.getPermission(1L, 10L, null, loader);
+        permissionCache.getPermission(1L, 10L, 5L, loader);
+        permissionCache.getPermission(2L, 10L, null, loader);
+        permissionCache.getPermission(1L, 11L, null, loader);
+    }
+
+    @Test
+    public void evictionOnlyRemovesTheDecisionsOfItsScopeTest() {
+        checkAll();
+        assertEquals(4, loads.get());
+        checkAll();
+        assertEquals(4, loads.get());
+
+        // Only the decisions of the user within the event are recomputed
+        permissionCache.evict(1L, 10L);
+        checkAll();
+        assertEquals(6, loads.get());
+
+        // Then those of every user within the event
+        permissionCache.evictEvent(10L);
+        checkAll();
+        assertEquals(9, loads.get());
+
+        // A decision cached again after its eviction is evicted again
+        permissionCache.evict(1L, 10L);
+        permissionCache.evict(1L, 10L);
+        checkAll();
+        assertEquals(11, loads.get());
+    }
+}
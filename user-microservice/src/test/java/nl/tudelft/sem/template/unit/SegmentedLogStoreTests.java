@@ -0,0 +1,216 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import nl.tudelft.sem.template.domain.event.Event;
+import nl.tudelft.sem.template.domain.event.EventDescription;
+import nl.tudelft.sem.template.domain.event.EventName;
+import nl.tudelft.sem.template.domain.event.IsCancelled;
+import nl.tudelft.sem.template.enums.LogKind;
+import nl.tudelft.sem.template.enums.LogType;
+import nl.tudelft.sem.template.logs.event.EventNameChangedEventLog;
+import nl.tudelft.sem.template.logs.store.LogPage;
+import nl.tudelft.sem.template.logs.store.LogRecord;
+import nl.tudelft.sem.template.logs.store.SegmentedLogStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SegmentedLogStoreTests {
+
+    @TempDir
+    Path directory;
+
+    private static LogRecord record(long subjectId) {
+        return new LogRecord(LogType.EVENT, LogKind.MODIFICATION, subjectId, subjectId, null,
+                Instant.ofEpochMilli(1_700_000_000_000L + subjectId), Map.of("name", "\u00c9v\u00e9nement " + subjectId));
+    }
+
+    private static List<LogRecord> readAll(SegmentedLogStore store) {
+        List<LogRecord> records = new ArrayList<>();
+        store.forEach(records::add);
+        return records;
+    }
+
+    @Test
+    void appendedRecordsAreReadBackTest() throws IOException {
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4096, 16, 0)) {
+            LogRecord created = new LogRecord(LogType.USER, LogKind.CREATION, 7L, null, 7L, Instant.ofEpochMilli(5L),
+                    Map.of());
+            store.append(created);
+            store.append(record(8L));
+
+            assertEquals(List.of(created, record(8L)), readAll(store));
+        }
+    }
+
+    @Test
+    void recordsSurviveReopeningTest() throws IOException {
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4096, 16, 0)) {
+            store.append(record(1L));
+            store.append(record(2L));
+        }
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4096, 16, 0)) {
+            store.append(record(3L));
+            assertEquals(List.of(record(1L), record(2L), record(3L)), readAll(store));
+        }
+    }
+
+    @Test
+    void fullSegmentRollsOverTest() throws IOException {
+        List<LogRecord> expected = new ArrayList<>();
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 256, 16, 0)) {
+            for (long i = 0; i < 50; i++) {
+                store.append(record(i));
+                expected.add(record(i));
+            }
+            assertEquals(expected, readAll(store));
+        }
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertTrue(segments.count() > 1);
+        }
+    }
+
+    @Test
+    void oversizedRecordIsRejectedTest() throws IOException {
+        // A record takes 67 bytes
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 64, 16, 0)) {
+            assertThrows(IllegalArgumentException.class, () -> store.append(record(1L)));
+        }
+    }
+
+    @Test
+    void tornTailIsDiscardedOnRecoveryTest() throws IOException {
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4096, 16, 0)) {
+            store.append(record(1L));
+            store.append(record(2L));
+        }
+
+        // simulate a crash halfway through writing a third record
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            segment = segments.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            int end = 0;
+            for (int i = 0; i < 2; i++) {
+                header.clear();
+                channel.read(header, end);
+                end += 2 * Integer.BYTES + header.getInt(0);
+            }
+            channel.write(ByteBuffer.allocate(12).putInt(40).putInt(123).putInt(456).flip(), end);
+        }
+
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4096, 16, 0)) {
+            assertEquals(List.of(record(1L), record(2L)), readAll(store));
+            store.append(record(3L));
+        }
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4096, 16, 0)) {
+            assertEquals(List.of(record(1L), record(2L), record(3L)), readAll(store));
+        }
+    }
+
+    @Test
+    void sustainedAppendsAreAllStoredTest() throws IOException {
+        int count = 200_000;
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4 * 1024 * 1024, 1024, 100)) {
+            for (long i = 0; i < count; i++) {
+                store.append(record(i));
+            }
+            long[] read = {0};
+            store.forEach(record -> assertEquals(read[0]++, record.getSubjectId()));
+            assertEquals(count, read[0]);
+        }
+    }
+
+    @Test
+    void historyIsFilteredAndPagedTest() throws IOException {
+        LogRecord created = new LogRecord(LogType.EVENT, LogKind.CREATION, 1L, 1L, null, Instant.ofEpochMilli(10L),
+                Map.of());
+        LogRecord renamed = new LogRecord(LogType.EVENT, LogKind.MODIFICATION, 1L, 1L, null, Instant.ofEpochMilli(20L),
+                Map.of("name", "renamed"));
+        LogRecord retitled = new LogRecord(LogType.EVENT, LogKind.MODIFICATION, 1L, 1L, null, Instant.ofEpochMilli(30L),
+                Map.of("description", "redescribed"));
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 256, 16, 0)) {
+            store.append(created);
+            store.append(new LogRecord(LogType.USER, LogKind.CREATION, 1L, null, 1L, Instant.ofEpochMilli(15L), Map.of()));
+            store.append(record(2L));
+            store.append(renamed);
+            store.append(retitled);
+
+            assertEquals(List.of(created, renamed, retitled),
+                    store.history(LogType.EVENT, 1L, null, null, null, null, 10).getRecords());
+            assertEquals(List.of(renamed, retitled),
+                    store.history(LogType.EVENT, 1L, LogKind.MODIFICATION, null, null, null, 10).getRecords());
+            assertEquals(List.of(renamed), store.history(LogType.EVENT, 1L, null,
+                    Instant.ofEpochMilli(20L), Instant.ofEpochMilli(30L), null, 10).getRecords());
+            assertTrue(store.history(LogType.TRACK, 1L, null, null, null, null, 10).getRecords().isEmpty());
+
+            LogPage first = store.history(LogType.EVENT, 1L, null, null, null, null, 2);
+            assertEquals(List.of(created, renamed), first.getRecords());
+            LogPage second = store.history(LogType.EVENT, 1L, null, null, null, first.getNextCursor(), 2);
+            assertEquals(List.of(retitled), second.getRecords());
+            assertNull(second.getNextCursor());
+        }
+
+        // the index is rebuilt from the segments on reopening
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 256, 16, 0)) {
+            assertEquals(List.of(created, renamed, retitled),
+                    store.history(LogType.EVENT, 1L, null, null, null, null, 10).getRecords());
+        }
+    }
+
+    @Test
+    void historyOfManySubjectsTest() throws IOException {
+        int subjects = 1_000;
+        int count = 500_000;
+        try (SegmentedLogStore store = new SegmentedLogStore(directory, 4 * 1024 * 1024, 1024, 100)) {
+            for (long i = 0; i < count; i++) {
+                store.append(record(i % subjects));
+            }
+            for (long subject = 0; subject < subjects; subject += 97) {
+                int read = 0;
+                Long cursor = null;
+                do {
+                    LogPage page = store.history(LogType.EVENT, subject, null, null, null, cursor, 100);
+                    for (LogRecord record : page.getRecords()) {
+                        assertEquals(subject, record.getSubjectId());
+                        read++;
+                    }
+                    cursor = page.getNextCursor();
+                } while (cursor != null);
+                assertEquals(count / subjects, read);
+            }
+        }
+    }
+
+    @Test
+    void recordOfLogTest() {
+        LocalDate date = LocalDate.parse("2024-01-09T19:26:47Z", DateTimeFormatter.ISO_DATE_TIME);
+        Event event = new Event(12L, date, date, new IsCancelled(false), new EventName("name"),
+                new EventDescription("desc"));
+        event.setName(new EventName("renamed"));
+
+        LogRecord record = LogRecord.of(new EventNameChangedEventLog(event));
+        assertEquals(LogType.EVENT, record.getLogType());
+        assertEquals(LogKind.MODIFICATION, record.getLogKind());
+        assertEquals(12L, record.getSubjectId());
+        assertEquals(Map.of("name", "renamed"), record.getChangedFields());
+    }
+}
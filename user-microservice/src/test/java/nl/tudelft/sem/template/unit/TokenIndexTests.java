@@ -0,0 +1,85 @@
+package nl.tudelft.sem.template.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import nl.tudelft.sem.template.services.TokenIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTests {
+
+    TokenIndex index;
+
+    /**
+     * Setups an empty index.
+     */
+    @BeforeEach
+    public void setup() {
+        index = new TokenIndex();
+    }
+
+    private Map<String, Integer> weights(String text, int weight) {
+        Map<String, Integer> weights = new HashMap<>();
+        TokenIndex.weigh(weights, text, weight);
+        return weights;
+    }
+
+    @Test
+    public void tokenizeTest() {
+        assertEquals(List.of("cafe", "conference", "2024", "s", "edition"),
+                TokenIndex.tokenize(" Café-CONFÉRENCE 2024's edition!"));
+        assertEquals(List.of("jane", "doe", "tudelft", "nl"), TokenIndex.tokenize("Jane.Doe@TUDelft.nl"));
+        assertEquals(List.of(), TokenIndex.tokenize(null));
+        assertEquals(List.of(), TokenIndex.tokenize(" -- "));
+    }
+
+    @Test
+    public void searchReturnsTheBestMatchesTest() {
+        index.put(1L, weights("ann annabel", 1));
+        index.put(2L, weights("ann", 1));
+        index.put(3L, weights("anna", 1));
+        index.put(4L, weights("bob", 1));
+
+        // Whole tokens count double, ties are broken on the identifier
+        assertEquals(List.of(1L, 2L, 3L), index.search("ann", 10));
+        assertEquals(List.of(1L, 2L), index.search("ann", 2));
+        assertEquals(List.of(3L, 1L), index.search("anna", 2));
+        assertEquals(List.of(), index.search("ann bob", 2));
+
+        index.put(2L, weights("bob", 1));
+        index.remove(4L);
+        assertEquals(List.of(1L, 3L), index.search("an", 10));
+        assertEquals(List.of(2L), index.search("bo", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void searchScalesToManyEntitiesTest() {
+        String[] names = {"jan", "jane", "janet", "johan", "joanna", "piet", "pieter", "maria", "marie", "mark"};
+        int entities = 100_000;
+        for (long id = 0; id < entities; id++) {
+            Map<String, Integer> weights = weights(names[(int) (id % names.length)] + " user" + id, 4);
+            TokenIndex.weigh(weights, "user" + id + "@example.org", 2);
+            index.put(id, weights);
+        }
+        assertEquals(entities, index.size());
+
+        // The top matches of a prefix are those a full scan would rank first
+        List<Long> expected = LongStream.range(0, entities)
+                .filter(id -> names[(int) (id % names.length)].startsWith("jan"))
+                .boxed()
+                .sorted(Comparator.comparing((Long id) -> !names[(int) (id % names.length)].equals("jan"))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(10)
+                .collect(Collectors.toList());
+        assertEquals(expected, index.search("jan", 10));
+        assertEquals(List.of(12_345L), index.search("user12345 example", 10));
+        assertEquals(List.of(), index.search("user12345 jan", 10));
+    }
+}